@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sorting entities with an {@link OrderComparator} to sorting them
+ * with a comparator that looks up and reads attributes reflectively upon each
+ * comparison, and to sorting them with a hand-written comparator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderComparatorBenchmark {
+
+    public static class Employee {
+        long id;
+        String lastName;
+        double salary;
+        boolean active;
+
+        Employee(long id, String lastName, double salary, boolean active) {
+            this.id = id;
+            this.lastName = lastName;
+            this.salary = salary;
+            this.active = active;
+        }
+    }
+
+    private static final Order<Employee> ORDER = Order.by(Sort.asc("active"),
+                                                          Sort.descIgnoreCase("lastName"),
+                                                          Sort.desc("salary"),
+                                                          Sort.asc("id"));
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20250101L);
+        String[] names = {"Adams", "brown", "Brown", "Jones", "smith", "Taylor"};
+        employees = new ArrayList<>(size);
+        for (long id = 0; id < size; id++) {
+            employees.add(new Employee(id,
+                                       names[random.nextInt(names.length)],
+                                       random.nextInt(20) * 1000.0,
+                                       random.nextBoolean()));
+        }
+    }
+
+    @Benchmark
+    public List<Employee> orderComparator() {
+        return sort(OrderComparator.of(Employee.class, ORDER));
+    }
+
+    @Benchmark
+    public List<Employee> reflective() {
+        return sort(reflective(ORDER));
+    }
+
+    @Benchmark
+    public List<Employee> handWritten() {
+        return sort(Comparator.<Employee>comparingInt(e -> e.active ? 1 : 0)
+                            .thenComparing(e -> e.lastName, String.CASE_INSENSITIVE_ORDER.reversed())
+                            .thenComparing(Comparator.<Employee>comparingDouble(e -> e.salary).reversed())
+                            .thenComparingLong(e -> e.id));
+    }
+
+    private List<Employee> sort(Comparator<Employee> comparator) {
+        List<Employee> list = new ArrayList<>(employees);
+        list.sort(comparator);
+        return list;
+    }
+
+    /**
+     * Comparator that looks up and reads attribute values with reflection
+     * upon every comparison.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Comparator<Employee> reflective(Order<Employee> order) {
+        return (e1, e2) -> {
+            try {
+                for (Sort<? super Employee> sort : order) {
+                    Field field = Employee.class.getDeclaredField(sort.property());
+                    Comparable v1 = (Comparable) field.get(e1);
+                    Comparable v2 = (Comparable) field.get(e2);
+                    int c = sort.ignoreCase() && v1 instanceof String s1
+                            ? s1.compareToIgnoreCase((String) v2)
+                            : v1.compareTo(v2);
+                    if (c != 0) {
+                        return sort.isAscending() ? c : -c;
+                    }
+                }
+                return 0;
+            } catch (ReflectiveOperationException x) {
+                throw new IllegalStateException(x);
+            }
+        };
+    }
+}
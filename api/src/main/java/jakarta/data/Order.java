@@ -20,6 +20,7 @@ package jakarta.data;
 import java.util.Iterator;
 import java.util.List;
 
+import jakarta.data.internal.Fingerprints;
 import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.repository.OrderBy;
 
@@ -77,6 +78,11 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      */
     private final List<Sort<? super T>> sorts;
 
+    /**
+     * Structural fingerprint of the sort criteria, computed upon creation.
+     */
+    private final long fingerprint;
+
     /**
      * Creates a new instance.
      *
@@ -84,6 +90,7 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      */
     private Order(List<Sort<? super T>> sorts) {
         this.sorts = sorts;
+        this.fingerprint = fingerprint(sorts);
     }
 
     /**
@@ -135,6 +142,25 @@ public class Order<T> implements Iterable<Sort<? super T>> {
             || other instanceof Order s && sorts.equals(s.sorts);
     }
 
+    /**
+     * <p>A 64-bit hash of the sort criteria of this {@code Order}, which
+     * covers the name of each attribute, the direction of sorting, and
+     * whether case is ignored, in order of precedence. The fingerprint
+     * is computed when the {@code Order} is created. Along with
+     * {@link jakarta.data.metamodel.restrict.Restriction#fingerprint()},
+     * a Jakarta Data provider can use it as part of the key under which
+     * to cache a query plan or prepared statement.</p>
+     *
+     * <p>Distinct sort criteria can, rarely, have the same fingerprint.
+     * Fingerprints are not guaranteed to be the same across different
+     * versions of Jakarta Data.</p>
+     *
+     * @return the structural fingerprint.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
     /**
      * Computes a hash code for this instance.
      *
@@ -169,4 +195,17 @@ public class Order<T> implements Iterable<Sort<? super T>> {
     public String toString() {
         return sorts.toString();
     }
+
+    /**
+     * Computes the structural fingerprint of sort criteria by combining a
+     * hash of each property name and its flags, and then spreading the bits.
+     */
+    private static long fingerprint(List<? extends Sort<?>> sorts) {
+        long h = Fingerprints.OFFSET_BASIS;
+        for (Sort<?> sort : sorts) {
+            h = Fingerprints.hash(h, sort.property());
+            h = (h ^ (sort.isAscending() ? 1L : 2L) ^ (sort.ignoreCase() ? 4L : 0L)) * Fingerprints.PRIME;
+        }
+        return Fingerprints.mix(h);
+    }
 }
\ No newline at end of file
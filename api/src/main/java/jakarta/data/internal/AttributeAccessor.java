@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.By;
+
+/**
+ * <p>Reads the value of an entity attribute from instances of an entity class.</p>
+ *
+ * <p>An {@code AttributeAccessor} is resolved once, for a given entity class
+ * and entity attribute name, and is then reused to read the attribute from
+ * any number of entity instances. Resolution locates the record component
+ * accessor, getter method, or field for each part of the attribute name and
+ * composes the result into a single {@link MethodHandle}, such that reading
+ * the attribute involves neither reflection nor a lookup by name.</p>
+ *
+ * <p>The attribute name has the same form as the name of an entity attribute
+ * in a {@link jakarta.data.Sort} or in a restriction. The name of an attribute
+ * of an embeddable is qualified by the name of the entity attribute that holds
+ * the embeddable, using the {@code .} character as a delimiter. For example,
+ * {@code name.last}. If an embeddable along the path is {@code null}, the value
+ * of the attribute is {@code null}. The name {@value By#ID} refers to the
+ * field that is annotated {@code jakarta.persistence.Id},
+ * {@code jakarta.persistence.EmbeddedId}, or {@code jakarta.nosql.Id}, or else
+ * to the attribute named {@code id}.</p>
+ *
+ * <p>Resolved accessors are cached by entity class and attribute name, up to
+ * a fixed number of accessors. Instances of {@code AttributeAccessor} are
+ * immutable and safe for use by multiple threads.</p>
+ *
+ * <p>This class is internal to Jakarta Data. Its package is not exported by
+ * the {@code jakarta.data} module, and it is not part of the API.</p>
+ *
+ * @param <T> entity class from which the attribute is read.
+ */
+public final class AttributeAccessor<T> {
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandle IS_NULL;
+
+    /**
+     * Maximum number of resolved accessors to retain.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    /**
+     * Names of annotations that designate the unique identifier attribute.
+     */
+    private static final Set<String> ID_ANNOTATIONS = Set.of(
+            "jakarta.persistence.Id",
+            "jakarta.persistence.EmbeddedId",
+            "jakarta.nosql.Id");
+
+    /**
+     * Resolved accessors, keyed by entity class and attribute name.
+     */
+    private static final BoundedCache<CacheKey, AttributeAccessor<?>> CACHE =
+            new BoundedCache<>(MAX_CACHED);
+
+    static {
+        try {
+            IS_NULL = MethodHandles.lookup().findStatic(
+                    Objects.class, "isNull",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException x) {
+            throw new ExceptionInInitializerError(x);
+        }
+    }
+
+    /**
+     * Method handle of type {@code (Object)Object} that reads the attribute.
+     */
+    private final MethodHandle objectGetter;
+
+    /**
+     * Method handle of type {@code (Object)type} that reads the attribute.
+     */
+    private final MethodHandle getter;
+
+    /**
+     * Name of the entity attribute.
+     */
+    private final String name;
+
+    /**
+     * Type of the attribute value, which may be a primitive type.
+     */
+    private final Class<?> type;
+
+    private AttributeAccessor(String name, Class<?> type, MethodHandle getter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.objectGetter = getter.asType(OBJECT_GETTER);
+    }
+
+    /**
+     * <p>Resolves an accessor for the entity attribute with the given name.</p>
+     *
+     * @param <T>         entity class from which the attribute is read.
+     * @param entityClass entity class from which the attribute is read.
+     * @param name        name of the entity attribute.
+     * @return an accessor for the entity attribute. This method never returns {@code null}.
+     * @throws NullPointerException if the entity class or name is {@code null}.
+     * @throws MappingException if the entity class has no such attribute or
+     *         the attribute cannot be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AttributeAccessor<T> of(Class<T> entityClass, String name) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(name, "name is required");
+
+        return (AttributeAccessor<T>) CACHE.get(new CacheKey(entityClass, name),
+                                                k -> resolve(k.entityClass(), k.name()));
+    }
+
+    private static AttributeAccessor<?> resolve(Class<?> entityClass, String name) {
+        MethodHandle handle = null;
+        Class<?> owner = entityClass;
+        for (String part : name.split("\\.")) {
+            MethodHandle next = resolvePart(owner, part, handle == null);
+            if (handle == null) {
+                handle = next.asType(next.type().changeParameterType(0, Object.class));
+            } else {
+                handle = MethodHandles.filterReturnValue(handle, nullSafe(next));
+            }
+            owner = handle.type().returnType();
+        }
+        return new AttributeAccessor<>(name, owner, handle);
+    }
+
+    /**
+     * Reads the attribute value from the given entity. Primitive values are boxed.
+     *
+     * @param entity entity instance. Must not be {@code null}.
+     * @return the attribute value, which might be {@code null}.
+     * @throws NullPointerException if the entity is {@code null}.
+     * @throws ClassCastException if the entity is not an instance of the entity class.
+     */
+    public Object get(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return objectGetter.invokeExact((Object) entity);
+        } catch (RuntimeException | Error x) {
+            throw x;
+        } catch (Throwable x) {
+            throw new MappingException("Unable to read attribute " + name, x);
+        }
+    }
+
+    /**
+     * <p>Returns a method handle that reads the attribute. The method handle
+     * accepts a single parameter of type {@code Object}, which must be an
+     * instance of the entity class, and has the return type {@link #type()}.
+     * When the return type is primitive, callers can read the value with
+     * {@link MethodHandle#invokeExact} without boxing.</p>
+     *
+     * @return method handle that reads the attribute.
+     */
+    public MethodHandle getter() {
+        return getter;
+    }
+
+    /**
+     * Name of the entity attribute.
+     *
+     * @return the entity attribute name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * <p>Type of the attribute value, which is a primitive type if the
+     * attribute is a primitive that is not held by an embeddable.</p>
+     *
+     * @return type of the attribute value.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeAccessor{" + name + ": " + type.getName() + '}';
+    }
+
+    /**
+     * Locates the member for one part of an attribute name and obtains
+     * a method handle of type {@code (owner)R} for it.
+     */
+    private static MethodHandle resolvePart(Class<?> owner, String part, boolean first) {
+        boolean isId = first && By.ID.equalsIgnoreCase(part);
+        String attrName = isId ? "id" : part;
+        Member member = isId ? findIdField(owner) : null;
+        if (member == null) {
+            member = findMember(owner, attrName);
+        }
+        if (member == null) {
+            throw new MappingException("The " + owner.getName() +
+                                       " class has no attribute named " + part);
+        }
+
+        MethodHandles.Lookup lookup = lookupFor(member.getDeclaringClass());
+        try {
+            return member instanceof Method m
+                    ? lookup.unreflect(m)
+                    : lookup.unreflectGetter((Field) member);
+        } catch (IllegalAccessException x) {
+            throw new MappingException("Unable to access attribute " + part +
+                                       " of " + owner.getName(), x);
+        }
+    }
+
+    private static Member findMember(Class<?> owner, String part) {
+        if (owner.isRecord()) {
+            for (RecordComponent component : owner.getRecordComponents()) {
+                if (component.getName().equals(part)) {
+                    return component.getAccessor();
+                }
+            }
+        }
+
+        String suffix = Character.toUpperCase(part.charAt(0)) + part.substring(1);
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method m : c.getDeclaredMethods()) {
+                if (m.getParameterCount() == 0
+                        && !Modifier.isStatic(m.getModifiers())
+                        && m.getReturnType() != void.class
+                        && (m.getName().equals("get" + suffix)
+                            || m.getName().equals("is" + suffix)
+                               && m.getReturnType() == boolean.class)) {
+                    return m;
+                }
+            }
+        }
+
+        Field caseInsensitiveMatch = null;
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(f.getModifiers())) {
+                    if (f.getName().equals(part)) {
+                        return f;
+                    } else if (caseInsensitiveMatch == null
+                            && f.getName().equalsIgnoreCase(part)) {
+                        caseInsensitiveMatch = f;
+                    }
+                }
+            }
+        }
+        return caseInsensitiveMatch;
+    }
+
+    private static Field findIdField(Class<?> owner) {
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                for (Annotation anno : f.getAnnotations()) {
+                    if (ID_ANNOTATIONS.contains(anno.annotationType().getName())) {
+                        return f;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> declaringClass) {
+        Module module = AttributeAccessor.class.getModule();
+        module.addReads(declaringClass.getModule());
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        } catch (IllegalAccessException x) {
+            // the package is not open to Jakarta Data; only public members are accessible
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    /**
+     * Adapts a method handle of type {@code (owner)R} for an attribute of an
+     * embeddable such that it returns {@code null} when the embeddable is
+     * {@code null}. Primitive return types are boxed.
+     */
+    private static MethodHandle nullSafe(MethodHandle next) {
+        MethodType type = next.type().wrap();
+        Class<?> owner = next.type().parameterType(0);
+        MethodHandle isNull = IS_NULL.asType(MethodType.methodType(boolean.class, owner));
+        MethodHandle returnNull = MethodHandles.dropArguments(
+                MethodHandles.constant(type.returnType(), null), 0, owner);
+        return MethodHandles.guardWithTest(isNull,
+                                           returnNull,
+                                           next.asType(type.changeParameterType(0, owner)));
+    }
+
+    /**
+     * Key of a resolved accessor.
+     */
+    private record CacheKey(Class<?> entityClass, String name) {
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>A cache that retains at most a fixed number of entries, evicting the
+ * least recently used entry when the limit is exceeded.</p>
+ *
+ * <p>Cached values, such as method handles, typically reference the entity
+ * class from which they were resolved. Because the number of entries is
+ * bounded, an entity class, and the class loader that defined it, are no
+ * longer reachable from the cache once its entries are evicted.</p>
+ *
+ * <p>Instances of {@code BoundedCache} are safe for use by multiple
+ * threads. Values are computed outside of the lock, such that a value
+ * might be computed more than once when first requested concurrently.</p>
+ *
+ * @param <K> type of key.
+ * @param <V> type of value.
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * Cached values, in order of least recently used to most recently used.
+     */
+    private final Map<K, V> entries;
+
+    /**
+     * Creates a cache that retains at most the given number of entries.
+     *
+     * @param maxEntries maximum number of entries to retain. Must be positive.
+     * @throws IllegalArgumentException if the maximum is not positive.
+     */
+    public BoundedCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries: " + maxEntries);
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Obtains the cached value for the given key, computing and caching
+     * the value if absent.
+     *
+     * @param key      key. Must not be {@code null}.
+     * @param function computes the value for the key. Must not return {@code null}.
+     * @return the value for the key.
+     */
+    public V get(K key, Function<? super K, ? extends V> function) {
+        V value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+        if (value == null) {
+            V computed = Objects.requireNonNull(function.apply(key));
+            synchronized (entries) {
+                value = entries.putIfAbsent(key, computed);
+            }
+            if (value == null) {
+                value = computed;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The number of entries that are currently cached.
+     *
+     * @return number of cached entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
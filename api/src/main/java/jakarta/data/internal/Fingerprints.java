@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.internal;
+
+/**
+ * <p>Hash functions from which structural fingerprints of restrictions and
+ * sort criteria are computed. Names are hashed with FNV-1a and the result
+ * is spread with the finalization step of MurmurHash3.</p>
+ *
+ * <p>This class is internal to Jakarta Data. Its package is not exported by
+ * the {@code jakarta.data} module, and it is not part of the API.</p>
+ */
+public final class Fingerprints {
+
+    /**
+     * FNV-1a offset basis, which is the initial value of a hash.
+     */
+    public static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a prime, by which a hash is multiplied after each input.
+     */
+    public static final long PRIME = 0x100000001b3L;
+
+    // prevent instantiation
+    private Fingerprints() {
+    }
+
+    /**
+     * FNV-1a hash of the characters of a name, following the given hash.
+     * The length of the name is hashed after its characters, which
+     * separates the name from what follows it.
+     *
+     * @param h    hash of what precedes the name.
+     * @param name the name. Can be {@code null}.
+     * @return the hash.
+     */
+    public static long hash(long h, String name) {
+        long result = h;
+        if (name != null) {
+            for (int i = 0; i < name.length(); i++) {
+                result = (result ^ name.charAt(i)) * PRIME;
+            }
+            result = (result ^ name.length()) * PRIME;
+        }
+        return result;
+    }
+
+    /**
+     * Finalization step of MurmurHash3, which spreads every input bit
+     * across all bits of the result.
+     *
+     * @param h the hash.
+     * @return the spread hash.
+     */
+    public static long mix(long h) {
+        long result = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return result ^ (result >>> 33);
+    }
+}
@@ -33,6 +33,17 @@ public interface Attribute<T> {
         return Restrict.equalTo(value, name());
     }
 
+    // primitive arrays rather than varargs, to avoid ambiguity with in(Object...)
+    @SuppressWarnings("PMD.UseVarargs")
+    default Restriction<T> in(int[] values) {
+        return Restrict.in(values, name());
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    default Restriction<T> in(long[] values) {
+        return Restrict.in(values, name());
+    }
+
     default Restriction<T> in(Object... values) {
         if (values == null || values.length == 0)
             throw new IllegalArgumentException("values are required");
@@ -56,6 +67,16 @@ public interface Attribute<T> {
         return Restrict.notEqualTo(value, name());
     }
 
+    @SuppressWarnings("PMD.UseVarargs")
+    default Restriction<T> notIn(int[] values) {
+        return Restrict.notIn(values, name());
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    default Restriction<T> notIn(long[] values) {
+        return Restrict.notIn(values, name());
+    }
+
     default Restriction<T> notIn(Object... values) {
         if (values == null || values.length == 0)
             throw new IllegalArgumentException("values are required");
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.metamodel.restrict.Restrict;
+import jakarta.data.metamodel.restrict.Restriction;
+
+/**
+ * <p>Represents a numeric entity attribute in the {@link StaticMetamodel}.
+ * In addition to the restrictions of {@link SortableAttribute}, a numeric
+ * attribute offers restrictions on primitive {@code int}, {@code long},
+ * and {@code double} values. These restrictions hold the primitive value
+ * rather than a wrapper object, deferring boxing until the Jakarta Data
+ * provider obtains the value, for example,</p>
+ *
+ * <pre>
+ * List&lt;Product&gt; found = products.search(_Product.price.between(10.0, 20.0));
+ * </pre>
+ *
+ * <p>Restrictions on {@code byte}, {@code char}, {@code float}, and
+ * {@code short} values hold the value boxed to its own wrapper type,
+ * rather than widened to {@code int} or {@code double}.</p>
+ *
+ * @param <T> entity class of the static metamodel.
+ */
+public interface NumericAttribute<T> extends SortableAttribute<T> {
+
+    default Restriction<T> between(double min, double max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> between(int min, int max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> between(long min, long max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> between(byte min, byte max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> between(char min, char max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> between(float min, float max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> between(short min, short max) {
+        return Restrict.between(min, max, name());
+    }
+
+    default Restriction<T> equalTo(double value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> equalTo(int value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> equalTo(long value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> equalTo(byte value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> equalTo(char value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> equalTo(float value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> equalTo(short value) {
+        return Restrict.equalTo(value, name());
+    }
+
+    default Restriction<T> greaterThan(double value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThan(int value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThan(long value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThan(byte value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThan(char value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThan(float value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThan(short value) {
+        return Restrict.greaterThan(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(double value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(int value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(long value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(byte value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(char value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(float value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> greaterThanEqual(short value) {
+        return Restrict.greaterThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThan(double value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThan(int value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThan(long value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThan(byte value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThan(char value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThan(float value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThan(short value) {
+        return Restrict.lessThan(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(double value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(int value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(long value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(byte value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(char value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(float value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> lessThanEqual(short value) {
+        return Restrict.lessThanEqual(value, name());
+    }
+
+    default Restriction<T> notEqualTo(double value) {
+        return Restrict.notEqualTo(value, name());
+    }
+
+    default Restriction<T> notEqualTo(int value) {
+        return Restrict.notEqualTo(value, name());
+    }
+
+    default Restriction<T> notEqualTo(long value) {
+        return Restrict.notEqualTo(value, name());
+    }
+
+    default Restriction<T> notEqualTo(byte value) {
+        return Restrict.notEqualTo(value, name());
+    }
+
+    default Restriction<T> notEqualTo(char value) {
+        return Restrict.notEqualTo(value, name());
+    }
+
+    default Restriction<T> notEqualTo(float value) {
+        return Restrict.notEqualTo(value, name());
+    }
+
+    default Restriction<T> notEqualTo(short value) {
+        return Restrict.notEqualTo(value, name());
+    }
+}
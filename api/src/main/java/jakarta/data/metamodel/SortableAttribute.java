@@ -26,7 +26,7 @@ import jakarta.data.metamodel.restrict.Restriction;
  * Entity attribute types that are sortable include:
  *
  * <ul>
- * <li>numeric attributes</li>
+ * <li>{@link NumericAttribute numeric attributes}</li>
  * <li>enum attributes</li>
  * <li>time attributes</li>
  * <li>boolean attributes</li>
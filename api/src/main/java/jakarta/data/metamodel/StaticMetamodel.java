@@ -78,7 +78,7 @@ import jakarta.data.Sort;
  *     Attribute&lt;Person&gt; name = new AttributeRecord&lt;&gt;(NAME);
  *     TextAttribute&lt;Person&gt; name_first = new TextAttributeRecord&lt;&gt;(NAME_FIRST);
  *     TextAttribute&lt;Person&gt; name_last = new TextAttributeRecord&lt;&gt;(NAME_LAST);
- *     SortableAttribute&lt;Person&gt; yearOfBirth = new SortableAttributeRecord&lt;&gt;(YEAROFBIRTH);
+ *     NumericAttribute&lt;Person&gt; yearOfBirth = new NumericAttributeRecord&lt;&gt;(YEAROFBIRTH);
  * }
  * </pre>
  *
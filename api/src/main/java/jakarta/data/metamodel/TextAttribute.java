@@ -18,6 +18,7 @@
 package jakarta.data.metamodel;
 
 import jakarta.data.Sort;
+import jakarta.data.metamodel.restrict.Pattern;
 import jakarta.data.metamodel.restrict.Restrict;
 import jakarta.data.metamodel.restrict.TextRestriction;
 
@@ -70,10 +71,9 @@ public interface TextAttribute<T> extends SortableAttribute<T> {
         return Restrict.lessThanEqual(value, name());
     }
 
-    // TODO once we have Pattern:
-    //default TextRestriction<T> like(Pattern pattern) {
-    //    return Restrict.like(pattern, name());
-    //}
+    default TextRestriction<T> like(Pattern pattern) {
+        return Restrict.like(pattern, name());
+    }
 
     default TextRestriction<T> like(String pattern) {
         return Restrict.like(pattern, name());
@@ -85,6 +85,10 @@ public interface TextAttribute<T> extends SortableAttribute<T> {
         return Restrict.like(pattern, charWildcard, stringWildcard, name());
     }
 
+    default TextRestriction<T> matches(String expression) {
+        return Restrict.matches(expression, name());
+    }
+
     default TextRestriction<T> notContains(String substring) {
         return Restrict.notContains(substring, name());
     }
@@ -97,6 +101,10 @@ public interface TextAttribute<T> extends SortableAttribute<T> {
         return Restrict.notEqualTo(value, name());
     }
 
+    default TextRestriction<T> notLike(Pattern pattern) {
+        return Restrict.notLike(pattern, name());
+    }
+
     default TextRestriction<T> notLike(String pattern) {
         return Restrict.notLike(pattern, name());
     }
@@ -39,9 +39,9 @@
  *     String NAME = "name";
  *     String PRICE = "price";
  *
- *     SortableAttribute&lt;Product&gt; id = new SortableAttributeRecord&lt;&gt;(ID);
+ *     NumericAttribute&lt;Product&gt; id = new NumericAttributeRecord&lt;&gt;(ID);
  *     TextAttribute&lt;Product&gt; name = new TextAttributeRecord&lt;&gt;(NAME);
- *     SortableAttribute&lt;Product&gt; price = new SortableAttributeRecord&lt;&gt;(PRICE);
+ *     NumericAttribute&lt;Product&gt; price = new NumericAttributeRecord&lt;&gt;(PRICE);
  * }
  *
  * ...
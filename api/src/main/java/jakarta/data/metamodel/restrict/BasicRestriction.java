@@ -18,6 +18,11 @@
 package jakarta.data.metamodel.restrict;
 
 public interface BasicRestriction<T> extends Restriction<T> {
+    @Override
+    default <R> R accept(RestrictionVisitor<T, R> visitor) {
+        return visitor.visitBasic(this);
+    }
+
     String attribute();
 
     Operator comparison();
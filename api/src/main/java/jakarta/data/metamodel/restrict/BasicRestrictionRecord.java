@@ -32,6 +32,41 @@ record BasicRestrictionRecord<T>(
         Objects.requireNonNull(attribute, "Attribute must not be null");
     }
 
+    /**
+     * Equality of single-value restrictions that are obtained from Restrict,
+     * such that a restriction that holds a primitive value is equal to one
+     * that holds the same value boxed.
+     */
+    static boolean equal(BasicRestriction<?> restriction, Object o) {
+        return o instanceof BasicRestriction<?> that
+                && (that instanceof BasicRestrictionRecord || that instanceof NumericRestriction)
+                && restriction.attribute().equals(that.attribute())
+                && restriction.comparison() == that.comparison()
+                && Objects.equals(restriction.value(), that.value());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return equal(this, o);
+    }
+
+    @Override
+    public long fingerprint() {
+        return RestrictionFingerprint.basic(attribute, comparison, value);
+    }
+
+    /**
+     * Hash code that is consistent with {@link #equal}.
+     */
+    static int hash(BasicRestriction<?> restriction) {
+        return Objects.hash(restriction.attribute(), restriction.comparison(), restriction.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(this);
+    }
+
     @Override
     public BasicRestriction<T> negate() {
         return new BasicRestrictionRecord<>(
@@ -20,6 +20,11 @@ package jakarta.data.metamodel.restrict;
 import java.util.List;
 
 public interface CompositeRestriction<T> extends Restriction<T> {
+    @Override
+    default <R> R accept(RestrictionVisitor<T, R> visitor) {
+        return visitor.visitComposite(this);
+    }
+
     boolean isNegated();
 
     @Override
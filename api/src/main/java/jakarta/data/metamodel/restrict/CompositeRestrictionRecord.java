@@ -39,8 +39,13 @@ record CompositeRestrictionRecord<T>(
         this(type, restrictions, false);
     }
 
+    @Override
+    public long fingerprint() {
+        return RestrictionFingerprint.composite(type, isNegated, restrictions);
+    }
+
     @Override
     public CompositeRestriction<T> negate() {
         return new CompositeRestrictionRecord<>(type, restrictions, !isNegated);
     }
-}
\ No newline at end of file
+}
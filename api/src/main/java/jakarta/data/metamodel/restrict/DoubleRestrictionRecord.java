@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024,2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static metamodel or Restrict.* methods
+// Holds a primitive double value, which is boxed only when value() is invoked.
+
+import java.util.Objects;
+
+record DoubleRestrictionRecord<T>(
+        String attribute,
+        Operator comparison,
+        double doubleValue) implements NumericRestriction<T> {
+
+    DoubleRestrictionRecord {
+        Objects.requireNonNull(attribute, "Attribute must not be null");
+    }
+
+    @Override
+    public double doubleValue() {
+        return doubleValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return BasicRestrictionRecord.equal(this, o);
+    }
+
+    @Override
+    public long fingerprint() {
+        return RestrictionFingerprint.basic(attribute, comparison, false);
+    }
+
+    @Override
+    public int hashCode() {
+        return BasicRestrictionRecord.hash(this);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) doubleValue;
+    }
+
+    @Override
+    public long longValue() {
+        return (long) doubleValue;
+    }
+
+    @Override
+    public NumericRestriction<T> negate() {
+        return new DoubleRestrictionRecord<>(
+                attribute,
+                comparison.negate(),
+                doubleValue);
+    }
+
+    @Override
+    public Double value() {
+        return doubleValue;
+    }
+
+    @Override
+    public Class<?> valueType() {
+        return double.class;
+    }
+}
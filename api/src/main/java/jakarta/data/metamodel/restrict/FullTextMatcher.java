@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Internal implementation class.
+// Matches text against a full-text search expression of terms and
+// "quoted phrases". Text matches if it contains each term as a word and
+// each phrase as consecutive words, without regard to case. Words are
+// maximal sequences of letters and digits. The expression is parsed once,
+// when the matcher is created.
+final class FullTextMatcher {
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Lower case words of each term or phrase. A term is a phrase of one word.
+     */
+    private final List<String[]> phrases;
+
+    private FullTextMatcher(List<String[]> phrases) {
+        this.phrases = phrases;
+    }
+
+    /**
+     * Parses a full-text search expression.
+     *
+     * @param expression terms and quoted phrases, separated by whitespace.
+     * @return matcher for the expression.
+     * @throws IllegalArgumentException if the expression has no words.
+     */
+    static FullTextMatcher compile(String expression) {
+        List<String[]> phrases = new ArrayList<>();
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i <= expression.length(); i++) {
+            boolean end = i == expression.length();
+            char ch = end ? QUOTE : expression.charAt(i);
+            if (ch == QUOTE || !quoted && Character.isWhitespace(ch)) {
+                List<String> words = words(expression.substring(start, i));
+                if (quoted) {
+                    if (!words.isEmpty()) {
+                        phrases.add(words.toArray(new String[0]));
+                    }
+                } else {
+                    // each unquoted word is a separate term
+                    for (String word : words) {
+                        phrases.add(new String[] {word});
+                    }
+                }
+                start = i + 1;
+                quoted = ch == QUOTE ? !quoted : quoted;
+            }
+        }
+        if (phrases.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "The full-text expression (" + expression + ") must contain at least one word.");
+        }
+        return new FullTextMatcher(List.copyOf(phrases));
+    }
+
+    /**
+     * Checks that a full-text search expression has at least one word,
+     * without parsing it.
+     *
+     * @param expression terms and quoted phrases, separated by whitespace.
+     * @throws IllegalArgumentException if the expression has no words.
+     */
+    static void validate(String expression) {
+        for (int i = 0; i < expression.length(); i++) {
+            // quotes and whitespace are delimiters, so any letter or digit forms a word
+            if (Character.isLetterOrDigit(expression.charAt(i))) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException(
+                "The full-text expression (" + expression + ") must contain at least one word.");
+    }
+
+    /**
+     * Determines whether the text contains every term and phrase.
+     *
+     * @param text text to match. Must not be {@code null}.
+     * @return true if the text matches the expression.
+     */
+    boolean matches(String text) {
+        List<String> words = words(text);
+        for (String[] phrase : phrases) {
+            if (!containsPhrase(words, phrase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsPhrase(List<String> words, String... phrase) {
+        for (int start = 0; start + phrase.length <= words.size(); start++) {
+            int matched = 0;
+            while (matched < phrase.length && phrase[matched].equals(words.get(start + matched))) {
+                matched++;
+            }
+            if (matched == phrase.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits text into lower case words, which are maximal sequences
+     * of letters and digits.
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024,2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+// Internal implementation class.
+// The proper way for users to obtain instances is via
+// the static metamodel or Restrict.* methods
+// Holds a primitive int value, which is boxed only when value() is invoked.
+
+import java.util.Objects;
+
+record IntRestrictionRecord<T>(
+        String attribute,
+        Operator comparison,
+        int intValue) implements NumericRestriction<T> {
+
+    IntRestrictionRecord {
+        Objects.requireNonNull(attribute, "Attribute must not be null");
+    }
+
+    @Override
+    public double doubleValue() {
+        return intValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return BasicRestrictionRecord.equal(this, o);
+    }
+
+    @Override
+    public long fingerprint() {
+        return RestrictionFingerprint.basic(attribute, comparison, false);
+    }
+
+    @Override
+    public int hashCode() {
+        return BasicRestrictionRecord.hash(this);
+    }
+
+    @Override
+    public int intValue() {
+        return intValue;
+    }
+
+    @Override
+    public long longValue() {
+        return intValue;
+    }
+
+    @Override
+    public NumericRestriction<T> negate() {
+        return new IntRestrictionRecord<>(
+                attribute,
+                comparison.negate(),
+                intValue);
+    }
+
+    @Override
+    public Integer value() {
+        return intValue;
+    }
+
+    @Override
+    public Class<?> valueType() {
+        return int.class;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Internal implementation class.
+// Matches text against a LIKE pattern that uses _ as the single character
+// wildcard and % as the string wildcard, and optionally \ as the escape
+// character. The pattern is parsed once, when the matcher is created.
+// Patterns that are a literal, or a literal with a leading and/or trailing
+// string wildcard, are matched without regular expressions.
+final class LikeMatcher {
+
+    private static final char CHAR_WILDCARD = '_';
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    private static final char STRING_WILDCARD = '%';
+
+    private enum Kind {
+        ANY,
+        CONTAINS,
+        EXACT,
+        PREFIX,
+        REGEX,
+        SUFFIX
+    }
+
+    private final boolean caseSensitive;
+
+    private final Kind kind;
+
+    private final String literal;
+
+    private final Pattern regex;
+
+    private LikeMatcher(Kind kind, String literal, Pattern regex, boolean caseSensitive) {
+        this.kind = kind;
+        this.literal = literal;
+        this.regex = regex;
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Parses a LIKE pattern.
+     *
+     * @param pattern       LIKE pattern.
+     * @param escaped       whether \ escapes the character that follows it.
+     * @param caseSensitive whether to match text with regard to case.
+     * @return matcher for the pattern.
+     */
+    static LikeMatcher compile(String pattern, boolean escaped, boolean caseSensitive) {
+        // Tokens are either a literal String or a wildcard Character
+        List<Object> tokens = new ArrayList<>();
+        StringBuilder lit = new StringBuilder();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char ch = pattern.charAt(i++);
+            if (escaped && ch == ESCAPE_CHAR && i < length) {
+                lit.append(pattern.charAt(i++));
+            } else if (ch == CHAR_WILDCARD || ch == STRING_WILDCARD) {
+                if (!lit.isEmpty()) {
+                    tokens.add(lit.toString());
+                    lit.setLength(0);
+                }
+                // consecutive string wildcards are equivalent to one
+                if (ch == CHAR_WILDCARD || tokens.isEmpty()
+                        || !Character.valueOf(STRING_WILDCARD).equals(tokens.get(tokens.size() - 1))) {
+                    tokens.add(ch);
+                }
+            } else {
+                lit.append(ch);
+            }
+        }
+        if (!lit.isEmpty()) {
+            tokens.add(lit.toString());
+        }
+
+        int count = tokens.size();
+        Object first = count > 0 ? tokens.get(0) : "";
+        Object last = count > 0 ? tokens.get(count - 1) : "";
+        boolean leadingWildcard = Character.valueOf(STRING_WILDCARD).equals(first);
+        boolean trailingWildcard = Character.valueOf(STRING_WILDCARD).equals(last);
+
+        if (count == 0) {
+            return new LikeMatcher(Kind.EXACT, "", null, caseSensitive);
+        } else if (count == 1 && first instanceof String s) {
+            return new LikeMatcher(Kind.EXACT, s, null, caseSensitive);
+        } else if (count == 1 && leadingWildcard) {
+            return new LikeMatcher(Kind.ANY, "", null, caseSensitive);
+        } else if (count == 2 && first instanceof String s && trailingWildcard) {
+            return new LikeMatcher(Kind.PREFIX, s, null, caseSensitive);
+        } else if (count == 2 && leadingWildcard && last instanceof String s) {
+            return new LikeMatcher(Kind.SUFFIX, s, null, caseSensitive);
+        } else if (count == 3 && leadingWildcard && trailingWildcard
+                && tokens.get(1) instanceof String s) {
+            return new LikeMatcher(Kind.CONTAINS, s, null, caseSensitive);
+        }
+
+        StringBuilder regex = new StringBuilder(length + 16);
+        for (Object token : tokens) {
+            if (token instanceof String s) {
+                regex.append(Pattern.quote(s));
+            } else if (Character.valueOf(CHAR_WILDCARD).equals(token)) {
+                regex.append('.');
+            } else {
+                regex.append(".*");
+            }
+        }
+        int flags = Pattern.DOTALL;
+        if (!caseSensitive) {
+            flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        }
+        return new LikeMatcher(Kind.REGEX, null, Pattern.compile(regex.toString(), flags), caseSensitive);
+    }
+
+    /**
+     * Determines whether the text matches the pattern.
+     *
+     * @param text text to match. Must not be {@code null}.
+     * @return true if the text matches the pattern.
+     */
+    boolean matches(String text) {
+        return switch (kind) {
+            case ANY -> true;
+            case EXACT -> caseSensitive
+                    ? text.equals(literal)
+                    : text.equalsIgnoreCase(literal);
+            case PREFIX -> text.regionMatches(!caseSensitive, 0, literal, 0, literal.length());
+            case SUFFIX -> text.regionMatches(!caseSensitive, text.length() - literal.length(),
+                                              literal, 0, literal.length());
+            case CONTAINS -> contains(text);
+            case REGEX -> regex.matcher(text).matches();
+        };
+    }
+
+    private boolean contains(String text) {
+        if (caseSensitive) {
+            return text.contains(literal);
+        }
+        int length = literal.length();
+        for (int i = text.length() - length; i >= 0; i--) {
+            if (text.regionMatches(true, i, literal, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024,2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+/**
+ * <p>A basic restriction that compares an entity attribute with a primitive
+ * {@code int}, {@code long}, or {@code double} value. Restrictions of this
+ * type are obtained from the primitive overloads of {@link Restrict} and of
+ * {@link jakarta.data.metamodel.NumericAttribute}, and hold the value
+ * without boxing it. A Jakarta Data provider can read the value without
+ * boxing by checking the {@link #valueType()} and invoking the corresponding
+ * {@link #intValue()}, {@link #longValue()}, or {@link #doubleValue()}
+ * method. The {@link #value()} method boxes the value.</p>
+ *
+ * <p>A {@code NumericRestriction} is equal to a restriction that is obtained
+ * from {@link Restrict} for the same attribute, operator, and boxed value.</p>
+ *
+ * @param <T> entity class of the attribute.
+ */
+public sealed interface NumericRestriction<T> extends BasicRestriction<T>
+        permits DoubleRestrictionRecord, IntRestrictionRecord, LongRestrictionRecord {
+
+    /**
+     * The value, converted to {@code double} as if by a widening primitive
+     * conversion.
+     *
+     * @return the value as a {@code double}.
+     */
+    double doubleValue();
+
+    /**
+     * The value, converted to {@code int} as if by
+     * {@link Number#intValue()}.
+     *
+     * @return the value as an {@code int}.
+     */
+    int intValue();
+
+    /**
+     * The value, converted to {@code long} as if by
+     * {@link Number#longValue()}.
+     *
+     * @return the value as a {@code long}.
+     */
+    long longValue();
+
+    @Override
+    NumericRestriction<T> negate();
+
+    /**
+     * The value, boxed as an {@link Integer}, {@link Long}, or {@link Double},
+     * according to the {@link #valueType()}.
+     *
+     * @return the boxed value.
+     */
+    @Override
+    Number value();
+
+    /**
+     * The primitive type of the value, which is {@code int.class},
+     * {@code long.class}, or {@code double.class}.
+     *
+     * @return the primitive type of the value.
+     */
+    Class<?> valueType();
+}
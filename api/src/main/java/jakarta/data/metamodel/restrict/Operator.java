@@ -25,9 +25,11 @@ public enum Operator {
     LESS_THAN,
     LESS_THAN_EQUAL,
     LIKE,
+    MATCHES,
     NOT_EQUAL,
     NOT_IN,
-    NOT_LIKE;
+    NOT_LIKE,
+    NOT_MATCHES;
 
     /**
      * Returns the operator that is the negation of this operator.
@@ -43,9 +45,11 @@ public enum Operator {
             case LESS_THAN -> GREATER_THAN_EQUAL;
             case LESS_THAN_EQUAL -> GREATER_THAN;
             case LIKE -> NOT_LIKE;
+            case MATCHES -> NOT_MATCHES;
             case NOT_EQUAL -> EQUAL;
             case NOT_IN -> IN;
             case NOT_LIKE -> LIKE;
+            case NOT_MATCHES -> MATCHES;
         };
     }
 }
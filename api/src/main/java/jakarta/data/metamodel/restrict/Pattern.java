@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A pattern for {@link Operator#LIKE LIKE} and
+ * {@link Operator#NOT_LIKE NOT_LIKE} restrictions on textual attributes.
+ * Within a pattern, {@code _} matches any single character, {@code %}
+ * matches any sequence of zero or more characters, and {@code \} escapes
+ * the character that follows it, such that the character is matched
+ * literally.</p>
+ *
+ * <p>A {@code Pattern} is parsed once, when it is created, and can be
+ * reused for any number of restrictions. For example,</p>
+ *
+ * <pre>
+ * static final Pattern ISBN_978 = Pattern.prefix("978-");
+ * ...
+ * found = books.search(_Book.isbn.like(ISBN_978));
+ * </pre>
+ *
+ * <p>Parsing determines the {@link #prefix() literal prefix} of the
+ * pattern, which is the text that every match must begin with, and whether
+ * the pattern is {@link #isPrefixOnly() prefix-only}, meaning that it
+ * matches exactly the text that begins with its literal prefix. A Jakarta
+ * Data provider can translate a prefix-only pattern to a range restriction
+ * of the form {@code attribute >= prefix AND attribute < upperBound},
+ * where the upper bound is given by {@link #prefixUpperBound()}, such that
+ * the database can use an index on the attribute rather than scanning.
+ * The range restriction is equivalent to the pattern only if the database
+ * collates text in the same order as {@link String#compareTo(String)}.</p>
+ *
+ * <p>Instances of {@code Pattern} are immutable and safe for use by
+ * multiple threads.</p>
+ */
+public final class Pattern {
+
+    private static final char CHAR_WILDCARD = '_';
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    private static final char STRING_WILDCARD = '%';
+
+    /**
+     * Whether the pattern has no wildcards.
+     */
+    private final boolean isLiteral;
+
+    /**
+     * Whether the pattern is its literal prefix followed only by %.
+     */
+    private final boolean isPrefixOnly;
+
+    /**
+     * Matches text against the pattern in memory.
+     */
+    private final LikeMatcher matcher;
+
+    /**
+     * Unescaped text that precedes the first wildcard.
+     */
+    private final String prefix;
+
+    /**
+     * Least text that is greater than all text that begins with the prefix,
+     * or null if there is no such text.
+     */
+    private final String prefixUpperBound;
+
+    /**
+     * The pattern, in which wildcards and \ are escaped by \.
+     */
+    private final String value;
+
+    private Pattern(String value) {
+        this.value = value;
+
+        StringBuilder literal = new StringBuilder(value.length());
+        int length = value.length();
+        int i = 0;
+        while (i < length && value.charAt(i) != CHAR_WILDCARD && value.charAt(i) != STRING_WILDCARD) {
+            char ch = value.charAt(i++);
+            literal.append(ch == ESCAPE_CHAR && i < length ? value.charAt(i++) : ch);
+        }
+        boolean stringWildcardsOnly = i < length;
+        for (int w = i; w < length && stringWildcardsOnly; w++) {
+            stringWildcardsOnly = value.charAt(w) == STRING_WILDCARD;
+        }
+
+        this.prefix = literal.toString();
+        this.isLiteral = i == length;
+        this.isPrefixOnly = stringWildcardsOnly;
+        this.prefixUpperBound = upperBound(prefix);
+        this.matcher = LikeMatcher.compile(value, true, true);
+    }
+
+    /**
+     * <p>Creates a pattern from a {@code LIKE} expression in which {@code _}
+     * matches any single character and {@code %} matches any sequence of
+     * characters. The {@code \} character within the expression is matched
+     * literally.</p>
+     *
+     * @param pattern the expression.
+     * @return the pattern.
+     * @throws NullPointerException if the expression is {@code null}.
+     */
+    public static Pattern like(String pattern) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        return new Pattern(pattern.indexOf(ESCAPE_CHAR) < 0
+                ? pattern
+                : pattern.replace("\\", "\\\\"));
+    }
+
+    /**
+     * <p>Creates a pattern from an expression that uses custom wildcard
+     * characters. The {@code _}, {@code %}, and {@code \} characters within
+     * the expression are matched literally, unless chosen as wildcards.</p>
+     *
+     * @param pattern        the expression.
+     * @param charWildcard   character that matches any single character.
+     * @param stringWildcard character that matches any sequence of zero or
+     *                       more characters.
+     * @return the pattern.
+     * @throws IllegalArgumentException if the same character is supplied for
+     *                                  both types of wildcard.
+     * @throws NullPointerException if the expression is {@code null}.
+     */
+    public static Pattern like(String pattern, char charWildcard, char stringWildcard) {
+        if (charWildcard == stringWildcard)
+            throw new IllegalArgumentException(
+                    "Cannot use the same character (" + charWildcard +
+                    ") for both types of wildcards.");
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+
+        int length = pattern.length();
+        StringBuilder s = new StringBuilder(length + 10);
+        for (int i = 0; i < length; i++) {
+            char ch = pattern.charAt(i);
+            if (ch == charWildcard) {
+                s.append(CHAR_WILDCARD);
+            } else if (ch == stringWildcard) {
+                s.append(STRING_WILDCARD);
+            } else if (ch == CHAR_WILDCARD || ch == STRING_WILDCARD || ch == ESCAPE_CHAR) {
+                s.append(ESCAPE_CHAR)
+                 .append(ch);
+            } else {
+                s.append(ch);
+            }
+        }
+        return new Pattern(s.toString());
+    }
+
+    /**
+     * <p>Creates a pattern that matches exactly the given text.</p>
+     *
+     * @param text text to match. Wildcard characters within the text are
+     *             matched literally.
+     * @return the pattern.
+     * @throws NullPointerException if the text is {@code null}.
+     */
+    public static Pattern literal(String text) {
+        Objects.requireNonNull(text, "Text must not be null");
+        return new Pattern(toLikeEscaped(false, text, false));
+    }
+
+    /**
+     * <p>Creates a pattern that matches text that begins with the given
+     * prefix. The pattern is {@link #isPrefixOnly() prefix-only}.</p>
+     *
+     * @param prefix text that must be at the beginning. Wildcard characters
+     *               within the text are matched literally.
+     * @return the pattern.
+     * @throws NullPointerException if the prefix is {@code null}.
+     */
+    public static Pattern prefix(String prefix) {
+        Objects.requireNonNull(prefix, "Prefix must not be null");
+        return new Pattern(toLikeEscaped(false, prefix, true));
+    }
+
+    /**
+     * <p>Creates a pattern that matches text that contains the given
+     * text.</p>
+     *
+     * @param substring text that must be contained. Wildcard characters
+     *                  within the text are matched literally.
+     * @return the pattern.
+     * @throws NullPointerException if the text is {@code null}.
+     */
+    public static Pattern substring(String substring) {
+        Objects.requireNonNull(substring, "Substring must not be null");
+        return new Pattern(toLikeEscaped(true, substring, true));
+    }
+
+    /**
+     * <p>Creates a pattern that matches text that ends with the given
+     * suffix.</p>
+     *
+     * @param suffix text that must be at the end. Wildcard characters
+     *               within the text are matched literally.
+     * @return the pattern.
+     * @throws NullPointerException if the suffix is {@code null}.
+     */
+    public static Pattern suffix(String suffix) {
+        Objects.requireNonNull(suffix, "Suffix must not be null");
+        return new Pattern(toLikeEscaped(true, suffix, false));
+    }
+
+    /**
+     * <p>Whether the pattern has no wildcards, such that it only matches
+     * its {@link #prefix() literal prefix}.</p>
+     *
+     * @return true if the pattern has no wildcards.
+     */
+    public boolean isLiteral() {
+        return isLiteral;
+    }
+
+    /**
+     * <p>Whether the pattern consists of its {@link #prefix() literal
+     * prefix} followed only by the {@code %} wildcard, such that it matches
+     * exactly the text that begins with the prefix. For example,
+     * {@code abc%} is prefix-only, whereas {@code abc}, {@code abc_%}, and
+     * {@code a%c} are not.</p>
+     *
+     * @return true if the pattern is prefix-only.
+     */
+    public boolean isPrefixOnly() {
+        return isPrefixOnly;
+    }
+
+    /**
+     * <p>Determines whether text matches this pattern, with regard to
+     * case.</p>
+     *
+     * @param text text to match.
+     * @return true if the text matches the pattern. False if the text is
+     *         {@code null}.
+     */
+    public boolean matches(String text) {
+        return text != null && matcher.matches(text);
+    }
+
+    /**
+     * <p>The unescaped text that precedes the first wildcard of the pattern,
+     * or all of the text of the pattern if it has no wildcards. Text matches
+     * the pattern only if it begins with the prefix.</p>
+     *
+     * @return the literal prefix, which is empty if the pattern begins with
+     *         a wildcard.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * <p>The least text that is greater, according to
+     * {@link String#compareTo(String)}, than all text that begins with the
+     * {@link #prefix() literal prefix}. For example, the upper bound of the
+     * prefix {@code abc} is {@code abd}.</p>
+     *
+     * @return the upper bound, or {@link Optional#empty()} if the prefix is
+     *         empty or consists only of {@link Character#MAX_VALUE}.
+     */
+    public Optional<String> prefixUpperBound() {
+        return Optional.ofNullable(prefixUpperBound);
+    }
+
+    /**
+     * <p>The pattern as a {@code LIKE} expression, in which {@code _} and
+     * {@code %} are wildcards and {@code \} escapes the character that
+     * follows it.</p>
+     *
+     * @return the escaped pattern.
+     */
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+            || other instanceof Pattern p && value.equals(p.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Converts the literal text into an escaped LIKE pattern.
+     * This method prepends a % character if previous characters are allowed,
+     * escapes the _, %, and \ characters within the literal by inserting \
+     * prior to each, and then appends a % character if subsequent characters
+     * are allowed.
+     *
+     * @param allowPrevious   whether to allow characters prior to the text.
+     * @param literal         text that is not escaped that must be matched.
+     * @param allowSubsequent whether to allow more characters after the text.
+     * @return escaped pattern.
+     */
+    static String toLikeEscaped(boolean allowPrevious,
+                                String literal,
+                                boolean allowSubsequent) {
+        int length = literal.length();
+        StringBuilder s = new StringBuilder(length + 10);
+        if (allowPrevious) {
+            s.append(STRING_WILDCARD);
+        }
+        for (int i = 0; i < length; i++) {
+            char ch = literal.charAt(i);
+            if (ch == CHAR_WILDCARD || ch == STRING_WILDCARD || ch == ESCAPE_CHAR) {
+                s.append(ESCAPE_CHAR);
+            }
+            s.append(ch);
+        }
+        if (allowSubsequent) {
+            s.append(STRING_WILDCARD);
+        }
+        return s.toString();
+    }
+
+    private static String upperBound(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char ch = prefix.charAt(i);
+            if (ch != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (ch + 1);
+            }
+        }
+        return null;
+    }
+}
@@ -26,15 +26,9 @@ import java.util.Set;
 // The other place is from static metamodel attributes.
 public class Restrict {
 
-    private static final char CHAR_WILDCARD = '_';
-
-    private static final char ESCAPE_CHAR = '\\';
-
     // used internally for more readable code
     private static final boolean ESCAPED = true;
 
-    private static final char STRING_WILDCARD = '%';
-
     // prevent instantiation
     private Restrict() {
     }
@@ -58,19 +52,80 @@ public class Restrict {
                    lessThanEqual(max, attribute));
     }
 
+    public static <T> Restriction<T> between(double min, double max, String attribute) {
+        return all(greaterThanEqual(min, attribute),
+                   lessThanEqual(max, attribute));
+    }
+
+    public static <T> Restriction<T> between(int min, int max, String attribute) {
+        return all(greaterThanEqual(min, attribute),
+                   lessThanEqual(max, attribute));
+    }
+
+    public static <T> Restriction<T> between(long min, long max, String attribute) {
+        return all(greaterThanEqual(min, attribute),
+                   lessThanEqual(max, attribute));
+    }
+
+    // byte, char, float, and short overloads keep the wrapper type that
+    // autoboxing produces, rather than widening the value to int or double
+    public static <T> Restriction<T> between(byte min, byte max, String attribute) {
+        return between((Byte) min, (Byte) max, attribute);
+    }
+
+    public static <T> Restriction<T> between(char min, char max, String attribute) {
+        return between((Character) min, (Character) max, attribute);
+    }
+
+    public static <T> Restriction<T> between(float min, float max, String attribute) {
+        return between((Float) min, (Float) max, attribute);
+    }
+
+    public static <T> Restriction<T> between(short min, short max, String attribute) {
+        return between((Short) min, (Short) max, attribute);
+    }
+
     // TODO Need to think more about how to best cover negation of multiple
     // and then make negation of Single consistent with it
 
     public static <T> TextRestriction<T> contains(String substring, String attribute) {
-        String pattern = toLikeEscaped(CHAR_WILDCARD, STRING_WILDCARD, true, substring, true);
+        String pattern = Pattern.toLikeEscaped(true, substring, true);
         return new TextRestrictionRecord<>(attribute, Operator.LIKE, ESCAPED, pattern);
     }
 
     public static <T> TextRestriction<T> endsWith(String suffix, String attribute) {
-        String pattern = toLikeEscaped(CHAR_WILDCARD, STRING_WILDCARD, true, suffix, false);
+        String pattern = Pattern.toLikeEscaped(true, suffix, false);
         return new TextRestrictionRecord<>(attribute, Operator.LIKE, ESCAPED, pattern);
     }
 
+    public static <T> NumericRestriction<T> equalTo(double value, String attribute) {
+        return new DoubleRestrictionRecord<>(attribute, Operator.EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> equalTo(int value, String attribute) {
+        return new IntRestrictionRecord<>(attribute, Operator.EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> equalTo(long value, String attribute) {
+        return new LongRestrictionRecord<>(attribute, Operator.EQUAL, value);
+    }
+
+    public static <T> Restriction<T> equalTo(byte value, String attribute) {
+        return equalTo((Object) value, attribute);
+    }
+
+    public static <T> Restriction<T> equalTo(char value, String attribute) {
+        return equalTo((Object) value, attribute);
+    }
+
+    public static <T> Restriction<T> equalTo(float value, String attribute) {
+        return equalTo((Object) value, attribute);
+    }
+
+    public static <T> Restriction<T> equalTo(short value, String attribute) {
+        return equalTo((Object) value, attribute);
+    }
+
     public static <T> Restriction<T> equalTo(Object value, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.EQUAL, value);
     }
@@ -79,6 +134,34 @@ public class Restrict {
         return new TextRestrictionRecord<>(attribute, Operator.EQUAL, value);
     }
 
+    public static <T> NumericRestriction<T> greaterThan(double value, String attribute) {
+        return new DoubleRestrictionRecord<>(attribute, Operator.GREATER_THAN, value);
+    }
+
+    public static <T> NumericRestriction<T> greaterThan(int value, String attribute) {
+        return new IntRestrictionRecord<>(attribute, Operator.GREATER_THAN, value);
+    }
+
+    public static <T> NumericRestriction<T> greaterThan(long value, String attribute) {
+        return new LongRestrictionRecord<>(attribute, Operator.GREATER_THAN, value);
+    }
+
+    public static <T> Restriction<T> greaterThan(byte value, String attribute) {
+        return greaterThan((Byte) value, attribute);
+    }
+
+    public static <T> Restriction<T> greaterThan(char value, String attribute) {
+        return greaterThan((Character) value, attribute);
+    }
+
+    public static <T> Restriction<T> greaterThan(float value, String attribute) {
+        return greaterThan((Float) value, attribute);
+    }
+
+    public static <T> Restriction<T> greaterThan(short value, String attribute) {
+        return greaterThan((Short) value, attribute);
+    }
+
     public static <T, V extends Comparable<V>> Restriction<T> greaterThan(V value, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.GREATER_THAN, value);
     }
@@ -87,6 +170,34 @@ public class Restrict {
         return new TextRestrictionRecord<>(attribute, Operator.GREATER_THAN, value);
     }
 
+    public static <T> NumericRestriction<T> greaterThanEqual(double value, String attribute) {
+        return new DoubleRestrictionRecord<>(attribute, Operator.GREATER_THAN_EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> greaterThanEqual(int value, String attribute) {
+        return new IntRestrictionRecord<>(attribute, Operator.GREATER_THAN_EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> greaterThanEqual(long value, String attribute) {
+        return new LongRestrictionRecord<>(attribute, Operator.GREATER_THAN_EQUAL, value);
+    }
+
+    public static <T> Restriction<T> greaterThanEqual(byte value, String attribute) {
+        return greaterThanEqual((Byte) value, attribute);
+    }
+
+    public static <T> Restriction<T> greaterThanEqual(char value, String attribute) {
+        return greaterThanEqual((Character) value, attribute);
+    }
+
+    public static <T> Restriction<T> greaterThanEqual(float value, String attribute) {
+        return greaterThanEqual((Float) value, attribute);
+    }
+
+    public static <T> Restriction<T> greaterThanEqual(short value, String attribute) {
+        return greaterThanEqual((Short) value, attribute);
+    }
+
     public static <T, V extends Comparable<V>> Restriction<T> greaterThanEqual(V value, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.GREATER_THAN_EQUAL, value);
     }
@@ -95,10 +206,49 @@ public class Restrict {
         return new TextRestrictionRecord<>(attribute, Operator.GREATER_THAN_EQUAL, value);
     }
 
+    // primitive arrays rather than varargs, to avoid ambiguity with in(Object...)
+    @SuppressWarnings("PMD.UseVarargs")
+    public static <T> Restriction<T> in(int[] values, String attribute) {
+        return new BasicRestrictionRecord<>(attribute, Operator.IN, SortedIntegralSet.of(required(values)));
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    public static <T> Restriction<T> in(long[] values, String attribute) {
+        return new BasicRestrictionRecord<>(attribute, Operator.IN, SortedIntegralSet.of(required(values)));
+    }
+
     public static <T> Restriction<T> in(Set<Object> values, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.IN, values);
     }
 
+    public static <T> NumericRestriction<T> lessThan(double value, String attribute) {
+        return new DoubleRestrictionRecord<>(attribute, Operator.LESS_THAN, value);
+    }
+
+    public static <T> NumericRestriction<T> lessThan(int value, String attribute) {
+        return new IntRestrictionRecord<>(attribute, Operator.LESS_THAN, value);
+    }
+
+    public static <T> NumericRestriction<T> lessThan(long value, String attribute) {
+        return new LongRestrictionRecord<>(attribute, Operator.LESS_THAN, value);
+    }
+
+    public static <T> Restriction<T> lessThan(byte value, String attribute) {
+        return lessThan((Byte) value, attribute);
+    }
+
+    public static <T> Restriction<T> lessThan(char value, String attribute) {
+        return lessThan((Character) value, attribute);
+    }
+
+    public static <T> Restriction<T> lessThan(float value, String attribute) {
+        return lessThan((Float) value, attribute);
+    }
+
+    public static <T> Restriction<T> lessThan(short value, String attribute) {
+        return lessThan((Short) value, attribute);
+    }
+
     public static <T, V extends Comparable<V>> Restriction<T> lessThan(V value, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.LESS_THAN, value);
     }
@@ -107,6 +257,34 @@ public class Restrict {
         return new TextRestrictionRecord<>(attribute, Operator.LESS_THAN, value);
     }
 
+    public static <T> NumericRestriction<T> lessThanEqual(double value, String attribute) {
+        return new DoubleRestrictionRecord<>(attribute, Operator.LESS_THAN_EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> lessThanEqual(int value, String attribute) {
+        return new IntRestrictionRecord<>(attribute, Operator.LESS_THAN_EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> lessThanEqual(long value, String attribute) {
+        return new LongRestrictionRecord<>(attribute, Operator.LESS_THAN_EQUAL, value);
+    }
+
+    public static <T> Restriction<T> lessThanEqual(byte value, String attribute) {
+        return lessThanEqual((Byte) value, attribute);
+    }
+
+    public static <T> Restriction<T> lessThanEqual(char value, String attribute) {
+        return lessThanEqual((Character) value, attribute);
+    }
+
+    public static <T> Restriction<T> lessThanEqual(float value, String attribute) {
+        return lessThanEqual((Float) value, attribute);
+    }
+
+    public static <T> Restriction<T> lessThanEqual(short value, String attribute) {
+        return lessThanEqual((Short) value, attribute);
+    }
+
     public static <T, V extends Comparable<V>> Restriction<T> lessThanEqual(V value, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.LESS_THAN_EQUAL, value);
     }
@@ -115,10 +293,10 @@ public class Restrict {
         return new TextRestrictionRecord<>(attribute, Operator.LESS_THAN_EQUAL, value);
     }
 
-    // TODO this would be possible if Pattern is added, but is it even useful?
-    //public static <T> TextRestriction<T> like(Pattern pattern, String attribute) {
-    //    return new TextRestriction<>(attribute, Operator.LIKE, ESCAPED, pattern);
-    //}
+    public static <T> TextRestriction<T> like(Pattern pattern, String attribute) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        return new TextRestrictionRecord<>(attribute, Operator.LIKE, ESCAPED, pattern.value());
+    }
 
     public static <T> TextRestriction<T> like(String pattern, String attribute) {
         return new TextRestrictionRecord<>(attribute, Operator.LIKE, pattern);
@@ -128,16 +306,105 @@ public class Restrict {
                                                char charWildcard,
                                                char stringWildcard,
                                                String attribute) {
-        String p = toLikeEscaped(charWildcard, stringWildcard, false, pattern, false);
+        String p = Pattern.like(pattern, charWildcard, stringWildcard).value();
         return new TextRestrictionRecord<>(attribute, Operator.LIKE, ESCAPED, p);
     }
 
+    /**
+     * <p>Creates a full-text restriction, which requires the text of the
+     * attribute to contain each term and phrase of a search expression.
+     * The expression consists of terms, which are single words, and phrases,
+     * which are sequences of words that are enclosed in double quotes,
+     * separated by whitespace. For example, the expression
+     * {@code jakarta "data access"} requires the word {@code jakarta} and the
+     * consecutive words {@code data access}.</p>
+     *
+     * <p>Text matches the expression if it contains every term as a word and
+     * every phrase as consecutive words, where words are maximal sequences
+     * of letters and digits and comparison is made without regard to case.
+     * A Jakarta Data provider may translate the restriction to a query on a
+     * full-text index of the database, which might additionally apply
+     * linguistic processing such as stemming or the removal of stop words.
+     * Full-text restrictions are never case sensitive.</p>
+     *
+     * @param <T>        entity class of the attribute.
+     * @param expression full-text search expression.
+     * @param attribute  name of the textual entity attribute.
+     * @return the restriction.
+     * @throws IllegalArgumentException if the expression has no words.
+     * @throws NullPointerException if the expression is {@code null}.
+     */
+    public static <T> TextRestriction<T> matches(String expression, String attribute) {
+        Objects.requireNonNull(expression, "Expression must not be null");
+        FullTextMatcher.validate(expression);
+        return new TextRestrictionRecord<>(attribute, Operator.MATCHES, false, false, expression);
+    }
+
+    /**
+     * <p>Rewrites a restriction into an equivalent, normalized form,
+     * such that restrictions which differ only syntactically tend to be
+     * rewritten to the same restriction. Normalization,</p>
+     * <ul>
+     * <li>pushes negation of composite restrictions down to the basic
+     *     restrictions that they combine, by De Morgan's laws,</li>
+     * <li>flattens nested composite restrictions of the same type,
+     *     and unwraps composite restrictions of a single restriction,</li>
+     * <li>removes duplicate restrictions from composite restrictions,</li>
+     * <li>retains only the tightest lower and upper bound on an attribute
+     *     within {@link #all all}, and only the loosest within
+     *     {@link #any any}, and</li>
+     * <li>folds equality restrictions on the same attribute within
+     *     {@code any} into a single {@link #in in} restriction, and
+     *     inequality restrictions on the same attribute within {@code all}
+     *     into a single {@link #notIn notIn} restriction.</li>
+     * </ul>
+     * <p>Composite restrictions that result from normalization are never
+     * negated. Case insensitive text restrictions are not merged or folded.</p>
+     *
+     * @param <T>         entity class of the restriction.
+     * @param restriction the restriction.
+     * @return an equivalent, normalized restriction.
+     * @throws NullPointerException if the restriction is {@code null}.
+     */
+    public static <T> Restriction<T> normalize(Restriction<T> restriction) {
+        Objects.requireNonNull(restriction, "Restriction must not be null");
+        return RestrictionNormalizer.normalize(restriction);
+    }
+
     // convenience method for those who would prefer to avoid .negate()
     public static <T> Restriction<T> not(Restriction<T> restriction) {
         Objects.requireNonNull(restriction, "Restriction must not be null");
         return restriction.negate();
     }
 
+    public static <T> NumericRestriction<T> notEqualTo(double value, String attribute) {
+        return new DoubleRestrictionRecord<>(attribute, Operator.NOT_EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> notEqualTo(int value, String attribute) {
+        return new IntRestrictionRecord<>(attribute, Operator.NOT_EQUAL, value);
+    }
+
+    public static <T> NumericRestriction<T> notEqualTo(long value, String attribute) {
+        return new LongRestrictionRecord<>(attribute, Operator.NOT_EQUAL, value);
+    }
+
+    public static <T> Restriction<T> notEqualTo(byte value, String attribute) {
+        return notEqualTo((Object) value, attribute);
+    }
+
+    public static <T> Restriction<T> notEqualTo(char value, String attribute) {
+        return notEqualTo((Object) value, attribute);
+    }
+
+    public static <T> Restriction<T> notEqualTo(float value, String attribute) {
+        return notEqualTo((Object) value, attribute);
+    }
+
+    public static <T> Restriction<T> notEqualTo(short value, String attribute) {
+        return notEqualTo((Object) value, attribute);
+    }
+
     public static <T> Restriction<T> notEqualTo(Object value, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.NOT_EQUAL, value);
     }
@@ -147,19 +414,34 @@ public class Restrict {
     }
 
     public static <T> TextRestriction<T> notContains(String substring, String attribute) {
-        String pattern = toLikeEscaped(CHAR_WILDCARD, STRING_WILDCARD, true, substring, true);
+        String pattern = Pattern.toLikeEscaped(true, substring, true);
         return new TextRestrictionRecord<>(attribute, Operator.NOT_LIKE, ESCAPED, pattern);
     }
 
     public static <T> TextRestriction<T> notEndsWith(String suffix, String attribute) {
-        String pattern = toLikeEscaped(CHAR_WILDCARD, STRING_WILDCARD, true, suffix, false);
+        String pattern = Pattern.toLikeEscaped(true, suffix, false);
         return new TextRestrictionRecord<>(attribute, Operator.NOT_LIKE, ESCAPED, pattern);
     }
 
+    @SuppressWarnings("PMD.UseVarargs")
+    public static <T> Restriction<T> notIn(int[] values, String attribute) {
+        return new BasicRestrictionRecord<>(attribute, Operator.NOT_IN, SortedIntegralSet.of(required(values)));
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    public static <T> Restriction<T> notIn(long[] values, String attribute) {
+        return new BasicRestrictionRecord<>(attribute, Operator.NOT_IN, SortedIntegralSet.of(required(values)));
+    }
+
     public static <T> Restriction<T> notIn(Set<Object> values, String attribute) {
         return new BasicRestrictionRecord<>(attribute, Operator.NOT_IN, values);
     }
 
+    public static <T> TextRestriction<T> notLike(Pattern pattern, String attribute) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        return new TextRestrictionRecord<>(attribute, Operator.NOT_LIKE, ESCAPED, pattern.value());
+    }
+
     public static <T> TextRestriction<T> notLike(String pattern, String attribute) {
         return new TextRestrictionRecord<>(attribute, Operator.NOT_LIKE, pattern);
     }
@@ -168,70 +450,29 @@ public class Restrict {
                                                   char charWildcard,
                                                   char stringWildcard,
                                                   String attribute) {
-        String p = toLikeEscaped(charWildcard, stringWildcard, false, pattern, false);
+        String p = Pattern.like(pattern, charWildcard, stringWildcard).value();
         return new TextRestrictionRecord<>(attribute, Operator.NOT_LIKE, ESCAPED, p);
     }
 
     public static <T> TextRestriction<T> notStartsWith(String prefix, String attribute) {
-        String pattern = toLikeEscaped(CHAR_WILDCARD, STRING_WILDCARD, false, prefix, true);
+        String pattern = Pattern.toLikeEscaped(false, prefix, true);
         return new TextRestrictionRecord<>(attribute, Operator.NOT_LIKE, ESCAPED, pattern);
     }
 
     public static <T> TextRestriction<T> startsWith(String prefix, String attribute) {
-        String pattern = toLikeEscaped(CHAR_WILDCARD, STRING_WILDCARD, false, prefix, true);
+        String pattern = Pattern.toLikeEscaped(false, prefix, true);
         return new TextRestrictionRecord<>(attribute, Operator.LIKE, ESCAPED, pattern);
     }
 
-    /**
-     * Converts the literal pattern into an escaped LIKE pattern.
-     * This method prepends a % character if previous characters are allowed,
-     * escapes the charWildcard (typically _), the stringWildcard (typically %),
-     * and the \ character within the literal by inserting \ prior to each,
-     * and then appends a % character if subsequent characters are allowed.
-     *
-     * @param charWildcard    single character wildcard, typically _.
-     * @param stringWildcard  0 or more character wildcard, typically %.
-     * @param allowPrevious   whether to allow characters prior to the text.
-     * @param literal text    that is not escaped that must be matched.
-     * @param allowSubsequent whether to allow more characters after the text.
-     * @return escaped pattern.
-     * @throws IllegalArgumentException if the same character is supplied for
-     *                                  both wildcard types.
-     */
-    // TODO could move to Pattern class
-    private static String toLikeEscaped(char charWildcard,
-                                        char stringWildcard,
-                                        boolean allowPrevious,
-                                        String literal,
-                                        boolean allowSubsequent) {
-        if (charWildcard == stringWildcard)
-            throw new IllegalArgumentException(
-                    "Cannot use the same character (" + charWildcard +
-                    ") for both types of wildcards.");
-
-        int length = literal.length();
-        StringBuilder s = new StringBuilder(length + 10);
-        if (allowPrevious) {
-            s.append(STRING_WILDCARD);
-        }
-        for (int i = 0; i < length; i++) {
-            char ch = literal.charAt(i);
-            if (ch == charWildcard) {
-                s.append(ESCAPE_CHAR)
-                 .append(CHAR_WILDCARD);
-            } else if (ch == stringWildcard) {
-                s.append(ESCAPE_CHAR)
-                 .append(STRING_WILDCARD);
-            } else if (ch == ESCAPE_CHAR) {
-                s.append(ESCAPE_CHAR)
-                 .append(ESCAPE_CHAR);
-            } else {
-                s.append(ch);
-            }
-        }
-        if (allowSubsequent) {
-            s.append(STRING_WILDCARD);
-        }
-        return s.toString();
+    private static int[] required(int... values) {
+        if (values == null || values.length == 0)
+            throw new IllegalArgumentException("values are required");
+        return values;
+    }
+
+    private static long[] required(long... values) {
+        if (values == null || values.length == 0)
+            throw new IllegalArgumentException("values are required");
+        return values;
     }
 }
@@ -18,5 +18,53 @@
 package jakarta.data.metamodel.restrict;
 
 public interface Restriction<T> {
+    /**
+     * <p>Accepts a visitor, invoking the method of the visitor that
+     * corresponds to the kind of this restriction.</p>
+     *
+     * <p>{@link BasicRestriction}, {@link TextRestriction}, and
+     * {@link CompositeRestriction} provide default implementations of this
+     * method. The default implementation that is defined here raises
+     * {@link UnsupportedOperationException}, because a restriction that is
+     * none of those kinds cannot be visited.</p>
+     *
+     * @param <R>     result of visiting the restriction.
+     * @param visitor the visitor.
+     * @return the result of visiting this restriction.
+     */
+    default <R> R accept(RestrictionVisitor<T, R> visitor) {
+        throw new UnsupportedOperationException(
+                "Restriction of type " + getClass().getName() + " cannot be visited.");
+    }
+
+    /**
+     * <p>Computes a structural fingerprint of this restriction, which is a
+     * 64-bit hash of the attribute names, operators, negation, case
+     * sensitivity, escaping, and composite structure of the restriction,
+     * and of whether each value is {@code null}, but not of the values
+     * themselves. Restrictions that differ only in their non-null values
+     * have the same fingerprint, such that a Jakarta Data provider can use
+     * the fingerprint as the key under which to cache a query plan or
+     * prepared statement for the restriction.</p>
+     *
+     * <p>The number of elements of an {@link Operator#IN IN} or
+     * {@link Operator#NOT_IN NOT_IN} value is not part of the fingerprint.
+     * Providers that supply each element to the query separately must
+     * account for the number of elements in addition to the fingerprint.</p>
+     *
+     * <p>Distinct structures can, rarely, have the same fingerprint.
+     * Fingerprints are not guaranteed to be the same across different
+     * versions of Jakarta Data.</p>
+     *
+     * <p>The fingerprint is computed upon each invocation of this method, in
+     * time that is proportional to the number of restrictions and the length
+     * of attribute names, and without regard to the values.</p>
+     *
+     * @return the structural fingerprint.
+     */
+    default long fingerprint() {
+        return RestrictionFingerprint.of(this);
+    }
+
     Restriction<T> negate();
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.List;
+
+import jakarta.data.internal.Fingerprints;
+
+// Internal implementation class.
+// Computes the structural fingerprint of restrictions, which covers
+// attribute names, operators, negation, case sensitivity, escaping,
+// whether a value is null, and composite structure, but not values.
+// Names rather than ordinals of enumerated constants are hashed such that
+// fingerprints remain stable when constants are added.
+final class RestrictionFingerprint {
+
+    // distinguishes kinds of restriction that would otherwise hash alike
+    private static final long BASIC = 0x42L;
+    private static final long COMPOSITE = 0x43L;
+    private static final long OTHER = 0x4fL;
+    private static final long TEXT = 0x54L;
+
+    // prevent instantiation
+    private RestrictionFingerprint() {
+    }
+
+    static long basic(String attribute, Operator comparison, Object value) {
+        return basic(attribute, comparison, value == null);
+    }
+
+    // for restrictions on primitive values, which are never null
+    static long basic(String attribute, Operator comparison, boolean isNullValue) {
+        long h = hash(BASIC, attribute);
+        h = hash(h, comparison == null ? null : comparison.name());
+        return mix(h ^ (isNullValue ? 1L : 0L));
+    }
+
+    static long composite(CompositeRestriction.Type type,
+                          boolean isNegated,
+                          List<? extends Restriction<?>> restrictions) {
+        long h = hash(COMPOSITE, type == null ? null : type.name());
+        h = mix(h ^ (isNegated ? 1L : 0L));
+        if (restrictions != null) {
+            for (Restriction<?> restriction : restrictions) {
+                // restrictions are combined in order, because the order
+                // in which they are combined is part of the structure
+                h = mix(h * Fingerprints.PRIME + (restriction == null ? 0L : restriction.fingerprint()));
+            }
+            h = mix(h ^ restrictions.size());
+        }
+        return h;
+    }
+
+    static long of(Restriction<?> restriction) {
+        if (restriction instanceof TextRestriction<?> text) {
+            return text(text.attribute(), text.comparison(), text.isCaseSensitive(),
+                        text.isEscaped(), text.value());
+        } else if (restriction instanceof BasicRestriction<?> basic) {
+            return basic(basic.attribute(), basic.comparison(), basic.value());
+        } else if (restriction instanceof CompositeRestriction<?> composite) {
+            return composite(composite.type(), composite.isNegated(), composite.restrictions());
+        } else {
+            return mix(hash(OTHER, restriction.getClass().getName()));
+        }
+    }
+
+    static long text(String attribute,
+                     Operator comparison,
+                     boolean isCaseSensitive,
+                     boolean isEscaped,
+                     String value) {
+        long h = hash(TEXT, attribute);
+        h = hash(h, comparison == null ? null : comparison.name());
+        return mix(h ^ (value == null ? 1L : 0L)
+                     ^ (isCaseSensitive ? 2L : 0L)
+                     ^ (isEscaped ? 4L : 0L));
+    }
+
+    /**
+     * Hash of a name, following the given hash. Hashing the name with the
+     * offset basis applied distinguishes a null name from an empty name.
+     */
+    private static long hash(long h, String name) {
+        long result = (Fingerprints.OFFSET_BASIS ^ h) * Fingerprints.PRIME;
+        return name == null ? result : Fingerprints.hash(result, name);
+    }
+
+    private static long mix(long h) {
+        return Fingerprints.mix(h);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Internal implementation class.
+// The proper way for users to normalize restrictions is via
+// the Restrict.normalize(...) method
+final class RestrictionNormalizer {
+
+    // prevent instantiation
+    private RestrictionNormalizer() {
+    }
+
+    static <T> Restriction<T> normalize(Restriction<T> restriction) {
+        return normalize(restriction, false);
+    }
+
+    private static <T> Restriction<T> normalize(Restriction<T> restriction, boolean negate) {
+        if (restriction instanceof CompositeRestriction<T> composite) {
+            // De Morgan: NOT ALL(a, b) == ANY(NOT a, NOT b) and NOT ANY(a, b) == ALL(NOT a, NOT b)
+            boolean negateChildren = negate ^ composite.isNegated();
+            CompositeRestriction.Type type = negateChildren
+                    ? flip(composite.type())
+                    : composite.type();
+
+            // Flatten nested composites of the same type and remove duplicates
+            Set<Restriction<T>> terms = new LinkedHashSet<>();
+            for (Restriction<T> child : composite.restrictions()) {
+                Restriction<T> normalized = normalize(child, negateChildren);
+                if (normalized instanceof CompositeRestriction<T> c && c.type() == type) {
+                    terms.addAll(c.restrictions());
+                } else {
+                    terms.add(normalized);
+                }
+            }
+
+            List<Restriction<T>> list = new ArrayList<>(terms);
+            mergeRanges(type, list);
+            foldIntoIn(type, list);
+
+            return list.size() == 1
+                    ? list.get(0)
+                    : new CompositeRestrictionRecord<>(type, List.copyOf(list));
+        } else {
+            return negate ? restriction.negate() : restriction;
+        }
+    }
+
+    private static CompositeRestriction.Type flip(CompositeRestriction.Type type) {
+        return type == CompositeRestriction.Type.ALL
+                ? CompositeRestriction.Type.ANY
+                : CompositeRestriction.Type.ALL;
+    }
+
+    /**
+     * Within ALL, retains only the tightest lower bound and the tightest
+     * upper bound on each attribute. Within ANY, retains only the loosest.
+     */
+    private static <T> void mergeRanges(CompositeRestriction.Type type, List<Restriction<T>> list) {
+        boolean tightest = type == CompositeRestriction.Type.ALL;
+        Map<String, Integer> lower = new LinkedHashMap<>();
+        Map<String, Integer> upper = new LinkedHashMap<>();
+        int i = 0;
+        while (i < list.size()) {
+            boolean merged = false;
+            if (list.get(i) instanceof BasicRestriction<T> basic
+                    && basic.value() != null
+                    && (!(basic instanceof TextRestriction<T> text) || text.isCaseSensitive())) {
+                Operator op = basic.comparison();
+                boolean isLower = op == Operator.GREATER_THAN || op == Operator.GREATER_THAN_EQUAL;
+                boolean isUpper = op == Operator.LESS_THAN || op == Operator.LESS_THAN_EQUAL;
+                Map<String, Integer> bounds = isLower ? lower : isUpper ? upper : null;
+                Integer previous = bounds == null ? null : bounds.putIfAbsent(basic.attribute(), i);
+                if (previous != null) {
+                    BasicRestriction<T> other = (BasicRestriction<T>) list.get(previous);
+                    int kept = keep(other, basic, isLower == tightest);
+                    // values that are not comparable are both retained
+                    if (kept >= 0) {
+                        list.set(previous, kept == 0 ? other : basic);
+                        list.remove(i);
+                        merged = true;
+                    }
+                }
+            }
+            if (!merged) {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Determines which of two bounds to keep.
+     *
+     * @return 0 for the first, 1 for the second, or -1 if not comparable.
+     */
+    private static int keep(BasicRestriction<?> first, BasicRestriction<?> second, boolean higher) {
+        int comparison;
+        try {
+            comparison = RestrictionPredicate.compareValues(first.value(), second.value());
+        } catch (ClassCastException x) {
+            return -1;
+        }
+        if (comparison == 0) {
+            comparison = Integer.compare(offset(first.comparison()), offset(second.comparison()));
+        }
+        return comparison == 0 || comparison > 0 == higher ? 0 : 1;
+    }
+
+    /**
+     * Position of a bound relative to its value: just above it for
+     * GREATER_THAN, just below it for LESS_THAN, and at it otherwise.
+     */
+    private static int offset(Operator op) {
+        return op == Operator.GREATER_THAN ? 1 : op == Operator.LESS_THAN ? -1 : 0;
+    }
+
+    /**
+     * Within ANY, folds EQUAL and IN terms on the same attribute into IN.
+     * Within ALL, folds NOT_EQUAL and NOT_IN terms on the same attribute
+     * into NOT_IN.
+     */
+    private static <T> void foldIntoIn(CompositeRestriction.Type type, List<Restriction<T>> list) {
+        boolean any = type == CompositeRestriction.Type.ANY;
+        Operator single = any ? Operator.EQUAL : Operator.NOT_EQUAL;
+        Operator multiple = any ? Operator.IN : Operator.NOT_IN;
+
+        Map<String, Integer> first = new LinkedHashMap<>();
+        Map<String, Set<Object>> values = new LinkedHashMap<>();
+        int i = 0;
+        while (i < list.size()) {
+            boolean folded = false;
+            if (list.get(i) instanceof BasicRestriction<T> basic
+                    && basic.value() != null
+                    && (basic.comparison() == single || basic.comparison() == multiple)
+                    && (!(basic instanceof TextRestriction<T> text) || text.isCaseSensitive())) {
+                Integer previous = first.putIfAbsent(basic.attribute(), i);
+                Set<Object> set = valuesOf(values, basic.attribute());
+                if (basic.comparison() == single) {
+                    set.add(basic.value());
+                } else {
+                    set.addAll((Collection<?>) basic.value());
+                }
+                if (previous != null) {
+                    list.set(previous, new BasicRestrictionRecord<>(basic.attribute(),
+                                                                    multiple,
+                                                                    Collections.unmodifiableSet(set)));
+                    list.remove(i);
+                    folded = true;
+                }
+            }
+            if (!folded) {
+                i++;
+            }
+        }
+    }
+
+    private static Set<Object> valuesOf(Map<String, Set<Object>> values, String attribute) {
+        return values.computeIfAbsent(attribute, a -> new LinkedHashSet<>());
+    }
+}
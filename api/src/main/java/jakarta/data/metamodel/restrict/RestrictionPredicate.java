@@ -0,0 +1,599 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.internal.AttributeAccessor;
+
+/**
+ * <p>A {@link Predicate} that evaluates a {@link Restriction} against
+ * entity instances in memory.</p>
+ *
+ * <p>A {@code RestrictionPredicate} is compiled once from a restriction.
+ * Compilation resolves a method handle that reads each entity attribute,
+ * parses each {@code LIKE} pattern, and converts each value to the form in
+ * which it is compared, such that testing an entity involves neither
+ * reflection, nor a lookup by attribute name, nor parsing. Comparisons of
+ * attributes of primitive numeric types against numeric values are made
+ * without boxing. For example,</p>
+ *
+ * <pre>
+ * Predicate&lt;Product&gt; affordableWidgets = RestrictionPredicate.of(Product.class,
+ *         Restrict.all(_Product.name.contains("Widget").ignoreCase(),
+ *                      _Product.price.lessThan(100.0f)));
+ *
+ * List&lt;Product&gt; found = cached.stream().filter(affordableWidgets).toList();
+ * </pre>
+ *
+ * <p>Restrictions are evaluated with the semantics of a query restriction
+ * on the database:</p>
+ * <ul>
+ * <li>A comparison against a {@code null} attribute value does not match,
+ *     and neither does its negation. Only {@code equalTo(null)} and
+ *     {@code notEqualTo(null)} test for {@code null}.</li>
+ * <li>A negated composite restriction matches when the composite restriction
+ *     definitively does not match, following three-valued logic.</li>
+ * <li>Numeric values of different types are compared by their numeric value.</li>
+ * <li>In {@code LIKE} patterns, {@code _} matches any single character and
+ *     {@code %} matches any sequence of characters. If the restriction
+ *     {@linkplain TextRestriction#isEscaped() is escaped}, the {@code \}
+ *     character causes the character that follows it to be matched literally.</li>
+ * <li>{@linkplain Restrict#matches(String, String) Full-text} restrictions
+ *     match text that contains each term as a word and each phrase as
+ *     consecutive words, without regard to case, and without stemming or
+ *     the removal of stop words.</li>
+ * <li>{@linkplain TextRestriction#isCaseSensitive() Case insensitive} text
+ *     restrictions compare text without regard to case.</li>
+ * </ul>
+ *
+ * <p>A database might collate text differently than the natural ordering of
+ * {@link String}. A {@code RestrictionPredicate} is not guaranteed to reproduce
+ * the results of a database in this regard.</p>
+ *
+ * <p>Instances of {@code RestrictionPredicate} are immutable and safe for use
+ * by multiple threads.</p>
+ *
+ * @param <T> entity class of the restriction.
+ */
+public final class RestrictionPredicate<T> implements Predicate<T> {
+
+    // Results of three-valued logic
+    private static final int FALSE = 0;
+    private static final int TRUE = 1;
+    private static final int UNKNOWN = 2;
+
+    private static final MethodType LONG_GETTER = MethodType.methodType(long.class, Object.class);
+    private static final MethodType DOUBLE_GETTER = MethodType.methodType(double.class, Object.class);
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * The restriction from which this predicate was compiled.
+     */
+    private final Restriction<T> restriction;
+
+    /**
+     * Root of the compiled restriction.
+     */
+    private final Node root;
+
+    private RestrictionPredicate(Restriction<T> restriction, Node root) {
+        this.restriction = restriction;
+        this.root = root;
+    }
+
+    /**
+     * <p>Compiles a restriction into a predicate.</p>
+     *
+     * @param <T>         entity class of the restriction.
+     * @param entityClass entity class of the restriction.
+     * @param restriction the restriction.
+     * @return a predicate that matches entities that satisfy the restriction.
+     *         This method never returns {@code null}.
+     * @throws NullPointerException if the entity class or restriction is {@code null}.
+     * @throws MappingException if the entity class has no attribute of the name
+     *         that is specified by the restriction, or the attribute cannot be accessed.
+     * @throws UnsupportedOperationException if the restriction, or a restriction
+     *         that it combines, cannot be {@linkplain Restriction#accept visited}.
+     */
+    public static <T> RestrictionPredicate<T> of(Class<T> entityClass, Restriction<T> restriction) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(restriction, "restriction is required");
+
+        return new RestrictionPredicate<>(restriction, compile(entityClass, restriction));
+    }
+
+    /**
+     * The restriction from which this predicate was compiled.
+     *
+     * @return the restriction.
+     */
+    public Restriction<T> restriction() {
+        return restriction;
+    }
+
+    /**
+     * Determines whether the entity satisfies the restriction.
+     *
+     * @param entity entity instance. Must not be {@code null}.
+     * @return true if the entity satisfies the restriction.
+     */
+    @Override
+    public boolean test(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        try {
+            return root.evaluate(entity) == TRUE;
+        } catch (RuntimeException | Error x) {
+            throw x;
+        } catch (Throwable x) {
+            throw new MappingException(x);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RestrictionPredicate{" + restriction + '}';
+    }
+
+    private static <T> Node compile(Class<T> entityClass, Restriction<T> restriction) {
+        return restriction.accept(new Compiler<>(entityClass));
+    }
+
+    /**
+     * Compiles each kind of restriction into a node. Composite restrictions
+     * are compiled by visiting each of the restrictions that they combine.
+     */
+    private static final class Compiler<T> implements RestrictionVisitor<T, Node> {
+        private final Class<T> entityClass;
+
+        Compiler(Class<T> entityClass) {
+            this.entityClass = entityClass;
+        }
+
+        @Override
+        public Node visitBasic(BasicRestriction<T> restriction) {
+            return compile(entityClass, restriction, true, false);
+        }
+
+        @Override
+        public Node visitComposite(CompositeRestriction<T> restriction) {
+            List<Restriction<T>> list = restriction.restrictions();
+            Node[] nodes = new Node[list.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = list.get(i).accept(this);
+            }
+            Node node = restriction.type() == CompositeRestriction.Type.ALL
+                    ? new All(nodes)
+                    : new Any(nodes);
+            return restriction.isNegated() ? new Not(node) : node;
+        }
+
+        @Override
+        public Node visitText(TextRestriction<T> restriction) {
+            return compile(entityClass, restriction, restriction.isCaseSensitive(), restriction.isEscaped());
+        }
+    }
+
+    private static Node compile(Class<?> entityClass, BasicRestriction<?> restriction,
+                                boolean caseSensitive, boolean escaped) {
+        AttributeAccessor<?> accessor = AttributeAccessor.of(entityClass, restriction.attribute());
+        Operator op = restriction.comparison();
+        Object value = restriction.value();
+        Class<?> type = accessor.type();
+
+        if (value == null && (op == Operator.EQUAL || op == Operator.NOT_EQUAL)) {
+            return type.isPrimitive()
+                    ? new Constant(op == Operator.EQUAL ? FALSE : TRUE)
+                    : new IsNull(accessor.getter().asType(OBJECT_GETTER), op == Operator.NOT_EQUAL);
+        }
+        Objects.requireNonNull(value, () -> "A value is required to compare with operator " + op);
+
+        switch (op) {
+            case IN, NOT_IN:
+                return compileIn(accessor, op == Operator.NOT_IN, (Collection<?>) value);
+            case LIKE, NOT_LIKE:
+                return new Like(accessor.getter().asType(OBJECT_GETTER),
+                                LikeMatcher.compile(value.toString(), escaped, caseSensitive),
+                                op == Operator.NOT_LIKE);
+            case MATCHES, NOT_MATCHES:
+                return new FullText(accessor.getter().asType(OBJECT_GETTER),
+                                    FullTextMatcher.compile(value.toString()),
+                                    op == Operator.NOT_MATCHES);
+            default:
+                if (value instanceof Number n && isIntegral(type) && isIntegral(n)) {
+                    return new LongComparison(accessor.getter().asType(LONG_GETTER), op, n.longValue());
+                } else if (value instanceof Number n && type.isPrimitive() && type != boolean.class
+                        && !(n instanceof BigDecimal || n instanceof BigInteger)) {
+                    return new DoubleComparison(accessor.getter().asType(DOUBLE_GETTER), op, n.doubleValue());
+                } else if (!caseSensitive && value instanceof String s) {
+                    return new CaseInsensitiveComparison(accessor.getter().asType(OBJECT_GETTER), op, s);
+                } else {
+                    return new ObjectComparison(accessor.getter().asType(OBJECT_GETTER), op, value);
+                }
+        }
+    }
+
+    @SuppressWarnings("PMD.LooseCoupling")
+    private static Node compileIn(AttributeAccessor<?> accessor, boolean negated, Collection<?> values) {
+        if (values instanceof SortedIntegralSet set && isIntegral(accessor.type())) {
+            return new LongIn(accessor.getter().asType(LONG_GETTER), negated, set.sorted());
+        }
+        if (isIntegral(accessor.type())
+                && values.stream().allMatch(v -> v instanceof Number n && isIntegral(n))) {
+            long[] sorted = values.stream().mapToLong(v -> ((Number) v).longValue()).sorted().toArray();
+            return new LongIn(accessor.getter().asType(LONG_GETTER), negated, sorted);
+        }
+        Set<Object> normalized = new HashSet<>();
+        for (Object v : values) {
+            normalized.add(normalize(v));
+        }
+        return new ObjectIn(accessor.getter().asType(OBJECT_GETTER), normalized, negated);
+    }
+
+    /**
+     * Compares non-null values, comparing numeric values of different types
+     * by their numeric value.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static int compareValues(Object value, Object operand) {
+        if (value instanceof Number n1 && operand instanceof Number n2
+                && value.getClass() != operand.getClass()) {
+            if (isIntegral(n1) && isIntegral(n2)) {
+                return Long.compare(n1.longValue(), n2.longValue());
+            } else if (n1 instanceof BigDecimal || n1 instanceof BigInteger
+                    || n2 instanceof BigDecimal || n2 instanceof BigInteger) {
+                return toBigDecimal(n1).compareTo(toBigDecimal(n2));
+            } else {
+                return Double.compare(n1.doubleValue(), n2.doubleValue());
+            }
+        }
+        return ((Comparable) value).compareTo(operand);
+    }
+
+    private static boolean equalValues(Object value, Object operand) {
+        return value instanceof Comparable<?> && (value instanceof Number || value.getClass() == operand.getClass())
+                ? compareValues(value, operand) == 0
+                : value.equals(operand);
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == long.class || type == int.class || type == short.class || type == byte.class;
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+    }
+
+    /**
+     * Converts numeric values to a canonical type such that equal numeric
+     * values of different types have equal hash codes.
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Number n) {
+            if (isIntegral(n)) {
+                return n.longValue();
+            } else if (n instanceof Double || n instanceof Float) {
+                double d = n.doubleValue();
+                return d == Math.rint(d) && Math.abs(d) < Long.MAX_VALUE ? (Object) (long) d : (Object) d;
+            } else {
+                BigDecimal d = toBigDecimal(n).stripTrailingZeros();
+                try {
+                    return d.longValueExact();
+                } catch (ArithmeticException x) {
+                    return d;
+                }
+            }
+        }
+        return value;
+    }
+
+    private static BigDecimal toBigDecimal(Number n) {
+        if (n instanceof BigDecimal d) {
+            return d;
+        } else if (n instanceof BigInteger i) {
+            return new BigDecimal(i);
+        } else if (isIntegral(n)) {
+            return BigDecimal.valueOf(n.longValue());
+        } else {
+            return BigDecimal.valueOf(n.doubleValue());
+        }
+    }
+
+    /**
+     * Applies a comparison operator to the result of comparing two values.
+     */
+    private static int test(Operator op, int comparison) {
+        boolean result = switch (op) {
+            case EQUAL -> comparison == 0;
+            case NOT_EQUAL -> comparison != 0;
+            case GREATER_THAN -> comparison > 0;
+            case GREATER_THAN_EQUAL -> comparison >= 0;
+            case LESS_THAN -> comparison < 0;
+            case LESS_THAN_EQUAL -> comparison <= 0;
+            case IN, LIKE, MATCHES, NOT_IN, NOT_LIKE, NOT_MATCHES ->
+                    throw new IllegalStateException(op.name());
+        };
+        return result ? TRUE : FALSE;
+    }
+
+    /**
+     * Compiled restriction, which evaluates to TRUE, FALSE, or UNKNOWN.
+     */
+    private abstract static class Node {
+        abstract int evaluate(Object entity) throws Throwable;
+    }
+
+    private static final class All extends Node {
+        private final Node[] nodes;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        All(Node... nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            int result = TRUE;
+            for (Node node : nodes) {
+                int r = node.evaluate(entity);
+                if (r == FALSE) {
+                    return FALSE;
+                } else if (r == UNKNOWN) {
+                    result = UNKNOWN;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Any extends Node {
+        private final Node[] nodes;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        Any(Node... nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            int result = FALSE;
+            for (Node node : nodes) {
+                int r = node.evaluate(entity);
+                if (r == TRUE) {
+                    return TRUE;
+                } else if (r == UNKNOWN) {
+                    result = UNKNOWN;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Not extends Node {
+        private final Node node;
+
+        Not(Node node) {
+            this.node = node;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            int r = node.evaluate(entity);
+            return r == UNKNOWN ? UNKNOWN : TRUE - r;
+        }
+    }
+
+    private static final class Constant extends Node {
+        private final int result;
+
+        Constant(int result) {
+            this.result = result;
+        }
+
+        @Override
+        int evaluate(Object entity) {
+            return result;
+        }
+    }
+
+    private static final class IsNull extends Node {
+        private final MethodHandle getter;
+        private final boolean negated;
+
+        IsNull(MethodHandle getter, boolean negated) {
+            this.getter = getter;
+            this.negated = negated;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            Object value = (Object) getter.invokeExact(entity);
+            return value == null ^ negated ? TRUE : FALSE;
+        }
+    }
+
+    private static final class LongComparison extends Node {
+        private final MethodHandle getter;
+        private final Operator op;
+        private final long operand;
+
+        LongComparison(MethodHandle getter, Operator op, long operand) {
+            this.getter = getter;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            return test(op, Long.compare((long) getter.invokeExact(entity), operand));
+        }
+    }
+
+    private static final class DoubleComparison extends Node {
+        private final MethodHandle getter;
+        private final Operator op;
+        private final double operand;
+
+        DoubleComparison(MethodHandle getter, Operator op, double operand) {
+            this.getter = getter;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            return test(op, Double.compare((double) getter.invokeExact(entity), operand));
+        }
+    }
+
+    private static final class ObjectComparison extends Node {
+        private final MethodHandle getter;
+        private final Operator op;
+        private final Object operand;
+
+        ObjectComparison(MethodHandle getter, Operator op, Object operand) {
+            this.getter = getter;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            Object value = (Object) getter.invokeExact(entity);
+            if (value == null) {
+                return UNKNOWN;
+            } else if (op == Operator.EQUAL) {
+                return equalValues(value, operand) ? TRUE : FALSE;
+            } else if (op == Operator.NOT_EQUAL) {
+                return equalValues(value, operand) ? FALSE : TRUE;
+            } else {
+                return test(op, compareValues(value, operand));
+            }
+        }
+    }
+
+    private static final class CaseInsensitiveComparison extends Node {
+        private final MethodHandle getter;
+        private final Operator op;
+        private final String operand;
+
+        CaseInsensitiveComparison(MethodHandle getter, Operator op, String operand) {
+            this.getter = getter;
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            Object value = (Object) getter.invokeExact(entity);
+            return value == null
+                    ? UNKNOWN
+                    : test(op, String.CASE_INSENSITIVE_ORDER.compare(value.toString(), operand));
+        }
+    }
+
+    private static final class FullText extends Node {
+        private final MethodHandle getter;
+        private final FullTextMatcher matcher;
+        private final boolean negated;
+
+        FullText(MethodHandle getter, FullTextMatcher matcher, boolean negated) {
+            this.getter = getter;
+            this.matcher = matcher;
+            this.negated = negated;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            Object value = (Object) getter.invokeExact(entity);
+            return value == null
+                    ? UNKNOWN
+                    : matcher.matches(value.toString()) ^ negated ? TRUE : FALSE;
+        }
+    }
+
+    private static final class Like extends Node {
+        private final MethodHandle getter;
+        private final LikeMatcher matcher;
+        private final boolean negated;
+
+        Like(MethodHandle getter, LikeMatcher matcher, boolean negated) {
+            this.getter = getter;
+            this.matcher = matcher;
+            this.negated = negated;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            Object value = (Object) getter.invokeExact(entity);
+            return value == null
+                    ? UNKNOWN
+                    : matcher.matches(value.toString()) ^ negated ? TRUE : FALSE;
+        }
+    }
+
+    private static final class LongIn extends Node {
+        private final MethodHandle getter;
+        private final boolean negated;
+        private final long[] sorted;
+
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        LongIn(MethodHandle getter, boolean negated, long... sorted) {
+            this.getter = getter;
+            this.sorted = sorted;
+            this.negated = negated;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            long value = (long) getter.invokeExact(entity);
+            return Arrays.binarySearch(sorted, value) >= 0 ^ negated ? TRUE : FALSE;
+        }
+    }
+
+    private static final class ObjectIn extends Node {
+        private final MethodHandle getter;
+        private final boolean negated;
+        private final Set<Object> values;
+
+        ObjectIn(MethodHandle getter, Set<Object> values, boolean negated) {
+            this.getter = getter;
+            this.values = values;
+            this.negated = negated;
+        }
+
+        @Override
+        int evaluate(Object entity) throws Throwable {
+            Object value = (Object) getter.invokeExact(entity);
+            return value == null
+                    ? UNKNOWN
+                    : values.contains(normalize(value)) ^ negated ? TRUE : FALSE;
+        }
+    }
+}
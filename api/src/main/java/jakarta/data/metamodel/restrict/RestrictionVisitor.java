@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+/**
+ * <p>A visitor over the kinds of {@link Restriction}, for translating a
+ * restriction to a query in a single pass over the restriction, without
+ * type checks or casts. The visitor is supplied to
+ * {@link Restriction#accept(RestrictionVisitor)}, which invokes the
+ * method of the visitor that corresponds to the kind of restriction.
+ * Composite restrictions are not traversed automatically. Instead,
+ * {@link #visitComposite(CompositeRestriction)} decides whether and in
+ * what order to visit the restrictions that are combined, by invoking
+ * {@code accept} on each of them. For example,</p>
+ *
+ * <pre>
+ * class Translator implements RestrictionVisitor&lt;Car, StringBuilder&gt; {
+ *     final StringBuilder jdql = new StringBuilder();
+ *
+ *     public StringBuilder visitBasic(BasicRestriction&lt;Car&gt; restriction) {
+ *         return jdql.append(restriction.attribute())
+ *                    .append(toJDQL(restriction.comparison()))
+ *                    .append('?').append(++params);
+ *     }
+ *
+ *     public StringBuilder visitComposite(CompositeRestriction&lt;Car&gt; restriction) {
+ *         ...
+ *         for (Restriction&lt;Car&gt; r : restriction.restrictions()) {
+ *             ...
+ *             r.accept(this);
+ *         }
+ *         return jdql;
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> entity class of the restrictions.
+ * @param <R> result of visiting a restriction.
+ */
+public interface RestrictionVisitor<T, R> {
+
+    /**
+     * Visits a basic restriction that is not a {@link TextRestriction}.
+     *
+     * @param restriction the restriction.
+     * @return the result of visiting the restriction.
+     */
+    R visitBasic(BasicRestriction<T> restriction);
+
+    /**
+     * Visits a composite restriction. The restrictions that it combines are
+     * not visited unless this method visits them.
+     *
+     * @param restriction the restriction.
+     * @return the result of visiting the restriction.
+     */
+    R visitComposite(CompositeRestriction<T> restriction);
+
+    /**
+     * Visits a restriction on a textual attribute. The default implementation
+     * visits it as a {@link #visitBasic(BasicRestriction) basic restriction}.
+     *
+     * @param restriction the restriction.
+     * @return the result of visiting the restriction.
+     */
+    default R visitText(TextRestriction<T> restriction) {
+        return visitBasic(restriction);
+    }
+}
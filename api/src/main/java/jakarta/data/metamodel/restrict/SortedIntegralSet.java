@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Internal implementation class.
+// An unmodifiable set of integral values that is backed by a sorted array of
+// distinct primitive long values, for IN and NOT_IN restrictions that are
+// created from primitive arrays. Values are boxed only when iterated, as
+// Integer if created from int values, and otherwise as Long. The contains
+// method accepts only values of the type that is iterated, consistent with
+// equals and hashCode; RestrictionPredicate matches other numeric types.
+final class SortedIntegralSet extends AbstractSet<Object> {
+
+    private final boolean ints;
+
+    private final long[] sorted;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private SortedIntegralSet(boolean ints, long... sorted) {
+        this.ints = ints;
+        this.sorted = sorted;
+    }
+
+    static Set<Object> of(int... values) {
+        return new SortedIntegralSet(true, distinct(Arrays.stream(values).asLongStream().toArray()));
+    }
+
+    static Set<Object> of(long... values) {
+        return new SortedIntegralSet(false, distinct(values.clone()));
+    }
+
+    /**
+     * Sorts the array in place and returns the distinct values.
+     */
+    private static long[] distinct(long... values) {
+        Arrays.sort(values);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[count - 1]) {
+                values[count++] = values[i];
+            }
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (ints) {
+            return o instanceof Integer i && contains(i.longValue());
+        } else {
+            return o instanceof Long l && contains(l.longValue());
+        }
+    }
+
+    boolean contains(long value) {
+        return Arrays.binarySearch(sorted, value) >= 0;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < sorted.length;
+            }
+
+            @Override
+            public Object next() {
+                if (index >= sorted.length) {
+                    throw new NoSuchElementException();
+                }
+                long value = sorted[index++];
+                return ints ? (Object) (int) value : (Object) value;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return sorted.length;
+    }
+
+    /**
+     * The distinct values, in ascending order. Callers must not modify
+     * the array.
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    long[] sorted() {
+        return sorted;
+    }
+}
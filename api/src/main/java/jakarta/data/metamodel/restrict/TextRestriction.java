@@ -18,6 +18,11 @@
 package jakarta.data.metamodel.restrict;
 
 public interface TextRestriction<T> extends BasicRestriction<T> {
+    @Override
+    default <R> R accept(RestrictionVisitor<T, R> visitor) {
+        return visitor.visitText(this);
+    }
+
     TextRestriction<T> ignoreCase();
 
     // TODO can mention in the JavaDoc that a value of true will be ignored
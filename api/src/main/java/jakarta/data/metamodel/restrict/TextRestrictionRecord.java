@@ -42,6 +42,11 @@ record TextRestrictionRecord<T>(
         this(attributeName, comparison, true, false, value);
     }
 
+    @Override
+    public long fingerprint() {
+        return RestrictionFingerprint.text(attribute, comparison, isCaseSensitive, isEscaped, value);
+    }
+
     @Override
     public TextRestriction<T> ignoreCase() {
         return new TextRestrictionRecord<>(attribute, comparison, false, isEscaped, value);
@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * <p>Internal implementation class for the compact binary encoding of
+ * {@link PageRequest.Cursor}. The encoding consists of a version byte,
+ * the number of key values as an unsigned variable length integer, and
+ * then each key value, as a type tag byte followed by the value.
+ * A native cursor, which has no key values, is written as a version byte,
+ * a count of 0, and the length of the native token followed by its bytes.</p>
+ *
+ * <p>Integral values are written as variable length integers, using zig-zag
+ * encoding for signed values so that small negative numbers are also short.
+ * Strings are written as their length in bytes followed by UTF-8.
+ * Temporal values are written as their epoch day, nano of day,
+ * epoch second, and offset components.</p>
+ */
+final class CursorCodec {
+
+    /**
+     * Version of the encoding, which is written as the first byte.
+     */
+    static final byte VERSION = 1;
+
+    // Type tags. The values of existing tags must never change.
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte CHAR = 9;
+    private static final byte STRING = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte UUID_VALUE = 13;
+    private static final byte LOCAL_DATE = 14;
+    private static final byte LOCAL_TIME = 15;
+    private static final byte LOCAL_DATE_TIME = 16;
+    private static final byte INSTANT = 17;
+    private static final byte OFFSET_DATE_TIME = 18;
+    private static final byte ZONED_DATE_TIME = 19;
+
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // prevent instantiation
+    private CursorCodec() {
+    }
+
+    /**
+     * Decodes a cursor from the remaining bytes of a buffer,
+     * advancing the position of the buffer past the encoded cursor.
+     *
+     * @param buffer buffer that is positioned at an encoded cursor.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the bytes are not a valid encoding.
+     */
+    static PageRequest.Cursor decode(ByteBuffer buffer) {
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor encoding version: " + version);
+            }
+            long count = readVarLong(buffer);
+            if (count == 0) {
+                return new NativeCursor(readBytes(buffer));
+            }
+            // each value requires at least one byte, which bounds the count
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid number of cursor key values: " + count);
+            }
+            Object[] key = new Object[(int) count];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = readValue(buffer);
+            }
+            return new PageRequestCursor(key);
+        } catch (BufferUnderflowException x) {
+            throw new IllegalArgumentException("The encoded cursor is truncated.", x);
+        } catch (ArithmeticException | DateTimeException | IndexOutOfBoundsException | NumberFormatException x) {
+            // a value is out of range for its type
+            throw new IllegalArgumentException("The encoded cursor has an invalid key value.", x);
+        }
+    }
+
+    /**
+     * Decodes a cursor from URL-safe Base64, with or without padding.
+     *
+     * @param base64 URL-safe Base64 encoding of the cursor.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the text is not a valid encoding.
+     */
+    static PageRequest.Cursor decodeBase64(String base64) {
+        return decode(ByteBuffer.wrap(BASE64_DECODER.decode(base64)));
+    }
+
+    /**
+     * Encodes a cursor to a new byte array of exactly the encoded size.
+     *
+     * @param cursor the cursor.
+     * @return the encoded cursor.
+     * @throws IllegalArgumentException if a key value has a type
+     *         that cannot be encoded.
+     */
+    static byte[] encode(PageRequest.Cursor cursor) {
+        byte[] bytes = new byte[size(cursor)];
+        encode(cursor, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Encodes a cursor into a buffer, starting at its current position
+     * and advancing the position past the encoded cursor.
+     *
+     * @param cursor the cursor.
+     * @param buffer buffer into which to write.
+     * @throws IllegalArgumentException if a key value has a type
+     *         that cannot be encoded.
+     * @throws java.nio.BufferOverflowException if the buffer has
+     *         insufficient space remaining.
+     */
+    static void encode(PageRequest.Cursor cursor, ByteBuffer buffer) {
+        int count = cursor.size();
+        buffer.put(VERSION);
+        writeVarLong(buffer, count);
+        if (cursor.isNative()) {
+            writeBytes(buffer, cursor.nativeToken());
+        }
+        for (int i = 0; i < count; i++) {
+            writeValue(buffer, cursor.get(i));
+        }
+    }
+
+    /**
+     * Encodes a cursor to URL-safe Base64 without padding.
+     *
+     * @param cursor the cursor.
+     * @return the encoded cursor.
+     * @throws IllegalArgumentException if a key value has a type
+     *         that cannot be encoded.
+     */
+    static String encodeBase64(PageRequest.Cursor cursor) {
+        return BASE64_ENCODER.encodeToString(encode(cursor));
+    }
+
+    /**
+     * Computes the number of bytes that are needed to encode a cursor.
+     *
+     * @param cursor the cursor.
+     * @return the number of bytes.
+     * @throws IllegalArgumentException if a key value has a type
+     *         that cannot be encoded.
+     */
+    static int size(PageRequest.Cursor cursor) {
+        int count = cursor.size();
+        int size = 1 + varLongSize(count);
+        if (cursor.isNative()) {
+            int length = cursor.nativeToken().length;
+            size += varLongSize(length) + length;
+        }
+        for (int i = 0; i < count; i++) {
+            size += 1 + valueSize(cursor.get(i));
+        }
+        return size;
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        return switch (tag) {
+            case NULL -> null;
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case BYTE -> buffer.get();
+            case SHORT -> (short) readSigned(buffer, Short.MIN_VALUE, Short.MAX_VALUE);
+            case INT -> (int) readSigned(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case LONG -> zigZagDecode(readVarLong(buffer));
+            case FLOAT -> buffer.getFloat();
+            case DOUBLE -> buffer.getDouble();
+            case CHAR -> (char) readUnsigned(buffer, Character.MAX_VALUE);
+            case STRING -> readString(buffer);
+            case BIG_INTEGER -> new BigInteger(readBytes(buffer));
+            case BIG_DECIMAL -> readBigDecimal(buffer);
+            case UUID_VALUE -> new UUID(buffer.getLong(), buffer.getLong());
+            case LOCAL_DATE -> LocalDate.ofEpochDay(zigZagDecode(readVarLong(buffer)));
+            case LOCAL_TIME -> LocalTime.ofNanoOfDay(readVarLong(buffer));
+            case LOCAL_DATE_TIME -> readLocalDateTime(buffer);
+            case INSTANT -> Instant.ofEpochSecond(zigZagDecode(readVarLong(buffer)), readVarLong(buffer));
+            case OFFSET_DATE_TIME -> OffsetDateTime.of(readLocalDateTime(buffer), readOffset(buffer));
+            case ZONED_DATE_TIME -> ZonedDateTime.ofLocal(readLocalDateTime(buffer),
+                                                          ZoneId.of(readString(buffer)),
+                                                          readOffset(buffer));
+            default -> throw new IllegalArgumentException("Unknown cursor key value type: " + tag);
+        };
+    }
+
+    private static BigDecimal readBigDecimal(ByteBuffer buffer) {
+        int scale = (int) readSigned(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid length in encoded cursor: " + length);
+        } else if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("The encoded cursor is truncated.");
+        }
+        return (int) length;
+    }
+
+    private static LocalDateTime readLocalDateTime(ByteBuffer buffer) {
+        LocalDate date = LocalDate.ofEpochDay(zigZagDecode(readVarLong(buffer)));
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(buffer)));
+    }
+
+    private static ZoneOffset readOffset(ByteBuffer buffer) {
+        return ZoneOffset.ofTotalSeconds((int) readSigned(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads a zig-zag encoded value, which must be within the given range,
+     * such that a value that is narrowed to a smaller type is not altered.
+     */
+    private static long readSigned(ByteBuffer buffer, long min, long max) {
+        long value = zigZagDecode(readVarLong(buffer));
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Out of range value in encoded cursor: " + value);
+        }
+        return value;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readLength(buffer);
+        String s;
+        if (buffer.hasArray()) {
+            s = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return s;
+    }
+
+    /**
+     * Reads a value that is not zig-zag encoded, which must be within the
+     * range from 0 to the given maximum.
+     */
+    private static long readUnsigned(ByteBuffer buffer, long max) {
+        long value = readVarLong(buffer);
+        if (value < 0 || value > max) {
+            throw new IllegalArgumentException("Out of range value in encoded cursor: " + value);
+        }
+        return value;
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed variable length integer in encoded cursor.");
+            }
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static int utf8Length(String s) {
+        int length = s.length();
+        int size = length;
+        int i = 0;
+        while (i < length) {
+            char ch = s.charAt(i++);
+            if (Character.isHighSurrogate(ch) && i < length && Character.isLowSurrogate(s.charAt(i))) {
+                // 4 bytes for the 2 chars of a surrogate pair
+                size += 2;
+                i++;
+            } else if (ch >= 0x800 && !Character.isSurrogate(ch)) {
+                size += 2;
+            } else if (ch >= 0x80 && ch < 0x800) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static int valueSize(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return 0;
+        } else if (value instanceof Byte) {
+            return 1;
+        } else if (value instanceof Short s) {
+            return varLongSize(zigZagEncode(s));
+        } else if (value instanceof Integer i) {
+            return varLongSize(zigZagEncode(i));
+        } else if (value instanceof Long l) {
+            return varLongSize(zigZagEncode(l));
+        } else if (value instanceof Float) {
+            return Float.BYTES;
+        } else if (value instanceof Double) {
+            return Double.BYTES;
+        } else if (value instanceof Character c) {
+            return varLongSize(c);
+        } else if (value instanceof String s) {
+            int length = utf8Length(s);
+            return varLongSize(length) + length;
+        } else if (value instanceof BigInteger b) {
+            int length = b.bitLength() / 8 + 1;
+            return varLongSize(length) + length;
+        } else if (value instanceof BigDecimal d) {
+            int length = d.unscaledValue().bitLength() / 8 + 1;
+            return varLongSize(zigZagEncode(d.scale())) + varLongSize(length) + length;
+        } else if (value instanceof UUID) {
+            return 2 * Long.BYTES;
+        } else if (value instanceof LocalDate d) {
+            return varLongSize(zigZagEncode(d.toEpochDay()));
+        } else if (value instanceof LocalTime t) {
+            return varLongSize(t.toNanoOfDay());
+        } else if (value instanceof LocalDateTime t) {
+            return localDateTimeSize(t);
+        } else if (value instanceof Instant t) {
+            return varLongSize(zigZagEncode(t.getEpochSecond())) + varLongSize(t.getNano());
+        } else if (value instanceof OffsetDateTime t) {
+            return localDateTimeSize(t.toLocalDateTime())
+                    + varLongSize(zigZagEncode(t.getOffset().getTotalSeconds()));
+        } else if (value instanceof ZonedDateTime t) {
+            int zoneLength = utf8Length(t.getZone().getId());
+            return localDateTimeSize(t.toLocalDateTime())
+                    + varLongSize(zoneLength) + zoneLength
+                    + varLongSize(zigZagEncode(t.getOffset().getTotalSeconds()));
+        } else {
+            throw new IllegalArgumentException("Cursor key values of type " + value.getClass().getName() +
+                                               " cannot be encoded.");
+        }
+    }
+
+    private static int localDateTimeSize(LocalDateTime t) {
+        return varLongSize(zigZagEncode(t.toLocalDate().toEpochDay()))
+                + varLongSize(t.toLocalTime().toNanoOfDay());
+    }
+
+    private static int varLongSize(long value) {
+        // 7 bits per byte, and at least 1 byte
+        return Math.max(1, (70 - Long.numberOfLeadingZeros(value)) / 7);
+    }
+
+    private static void writeValue(ByteBuffer buffer, Object value) {
+        if (value == null) {
+            buffer.put(NULL);
+        } else if (value instanceof Boolean b) {
+            buffer.put(b ? TRUE : FALSE);
+        } else if (value instanceof Byte b) {
+            buffer.put(BYTE).put(b);
+        } else if (value instanceof Short s) {
+            writeVarLong(buffer.put(SHORT), zigZagEncode(s));
+        } else if (value instanceof Integer i) {
+            writeVarLong(buffer.put(INT), zigZagEncode(i));
+        } else if (value instanceof Long l) {
+            writeVarLong(buffer.put(LONG), zigZagEncode(l));
+        } else if (value instanceof Float f) {
+            buffer.put(FLOAT).putFloat(f);
+        } else if (value instanceof Double d) {
+            buffer.put(DOUBLE).putDouble(d);
+        } else if (value instanceof Character c) {
+            writeVarLong(buffer.put(CHAR), c);
+        } else if (value instanceof String s) {
+            writeString(buffer.put(STRING), s);
+        } else if (value instanceof BigInteger b) {
+            writeBytes(buffer.put(BIG_INTEGER), b.toByteArray());
+        } else if (value instanceof BigDecimal d) {
+            writeVarLong(buffer.put(BIG_DECIMAL), zigZagEncode(d.scale()));
+            writeBytes(buffer, d.unscaledValue().toByteArray());
+        } else if (value instanceof UUID u) {
+            buffer.put(UUID_VALUE).putLong(u.getMostSignificantBits()).putLong(u.getLeastSignificantBits());
+        } else if (value instanceof LocalDate d) {
+            writeVarLong(buffer.put(LOCAL_DATE), zigZagEncode(d.toEpochDay()));
+        } else if (value instanceof LocalTime t) {
+            writeVarLong(buffer.put(LOCAL_TIME), t.toNanoOfDay());
+        } else if (value instanceof LocalDateTime t) {
+            writeLocalDateTime(buffer.put(LOCAL_DATE_TIME), t);
+        } else if (value instanceof Instant t) {
+            writeVarLong(buffer.put(INSTANT), zigZagEncode(t.getEpochSecond()));
+            writeVarLong(buffer, t.getNano());
+        } else if (value instanceof OffsetDateTime t) {
+            writeLocalDateTime(buffer.put(OFFSET_DATE_TIME), t.toLocalDateTime());
+            writeVarLong(buffer, zigZagEncode(t.getOffset().getTotalSeconds()));
+        } else if (value instanceof ZonedDateTime t) {
+            writeLocalDateTime(buffer.put(ZONED_DATE_TIME), t.toLocalDateTime());
+            writeString(buffer, t.getZone().getId());
+            writeVarLong(buffer, zigZagEncode(t.getOffset().getTotalSeconds()));
+        } else {
+            throw new IllegalArgumentException("Cursor key values of type " + value.getClass().getName() +
+                                               " cannot be encoded.");
+        }
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        writeVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static void writeLocalDateTime(ByteBuffer buffer, LocalDateTime t) {
+        writeVarLong(buffer, zigZagEncode(t.toLocalDate().toEpochDay()));
+        writeVarLong(buffer, t.toLocalTime().toNanoOfDay());
+    }
+
+    private static void writeString(ByteBuffer buffer, String s) {
+        writeVarLong(buffer, utf8Length(s));
+        int length = s.length();
+        int i = 0;
+        while (i < length) {
+            char ch = s.charAt(i++);
+            if (ch < 0x80) {
+                buffer.put((byte) ch);
+            } else if (ch < 0x800) {
+                buffer.put((byte) (0xC0 | ch >> 6))
+                      .put((byte) (0x80 | ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i < length && Character.isLowSurrogate(s.charAt(i))) {
+                int cp = Character.toCodePoint(ch, s.charAt(i++));
+                buffer.put((byte) (0xF0 | cp >> 18))
+                      .put((byte) (0x80 | cp >> 12 & 0x3F))
+                      .put((byte) (0x80 | cp >> 6 & 0x3F))
+                      .put((byte) (0x80 | cp & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                // unpaired surrogate, which String.getBytes also replaces with ?
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | ch >> 12))
+                      .put((byte) (0x80 | ch >> 6 & 0x3F))
+                      .put((byte) (0x80 | ch & 0x3F));
+            }
+        }
+    }
+
+    private static void writeVarLong(ByteBuffer buffer, long value) {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            buffer.put((byte) (v & 0x7F | 0x80));
+            v >>>= 7;
+        }
+        buffer.put((byte) v);
+    }
+
+    private static long zigZagDecode(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static long zigZagEncode(long value) {
+        return value << 1 ^ value >> 63;
+    }
+}
@@ -150,6 +150,10 @@ public interface CursoredPage<T> extends Page<T> {
      *
      * @param index position (0 is first) of a result on the page.
      * @return cursor for key values at the specified position.
+     * @throws UnsupportedOperationException if the page was obtained by
+     *         resuming from a {@linkplain PageRequest.Cursor#isNative() native}
+     *         continuation token, and so cursors are not available for
+     *         individual results.
      */
     PageRequest.Cursor cursor(int index);
 
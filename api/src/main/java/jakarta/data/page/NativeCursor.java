@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Built-in implementation of Cursor for an opaque continuation token that is
+ * native to the database, such as a paging state or a resume token. A native
+ * cursor has no key values. It is equal to another native cursor with an
+ * equal token.
+ */
+final class NativeCursor implements PageRequest.Cursor {
+    /**
+     * Hash code of the token.
+     */
+    private final int hash;
+
+    /**
+     * The native continuation token.
+     */
+    private final byte[] token;
+
+    /**
+     * Constructs a cursor for the specified token, which must not be
+     * modified afterward.
+     *
+     * @param token the native continuation token.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    NativeCursor(byte[] token) {
+        this.token = token;
+        this.hash = Arrays.hashCode(token);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof NativeCursor c
+                && hash == c.hash
+                && Arrays.equals(token, c.token);
+    }
+
+    @Override
+    public Object get(int index) {
+        throw new IndexOutOfBoundsException("A native cursor has no key values. Index: " + index);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean isNative() {
+        return true;
+    }
+
+    @Override
+    public byte[] nativeToken() {
+        return token.clone();
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public List<?> elements() {
+        return List.of();
+    }
+
+    @Override
+    public String toString() {
+        return "Cursor@" + Integer.toHexString(hash) +
+                " with native token of " + token.length + " bytes";
+    }
+}
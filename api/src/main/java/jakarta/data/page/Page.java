@@ -19,6 +19,8 @@ package jakarta.data.page;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -142,19 +144,61 @@ public interface Page<T> extends Iterable<T> {
      */
     boolean hasTotals();
 
+    /**
+     * Returns {@code true} if totals are available, but the
+     * {@linkplain #totalElements() total number of elements} and
+     * {@linkplain #totalPages() total number of pages} might be an
+     * estimate rather than an exact count, because the {@link #pageRequest()}
+     * {@linkplain PageRequest#requestEstimatedTotal allowed an estimate}.
+     * An estimate might be lower or higher than the number of elements
+     * that can actually be retrieved across all pages.
+     * @return {@code true} if the totals might be an estimate.
+     */
+    default boolean isTotalEstimated() {
+        return false;
+    }
+
     /**
      * Returns the total number of elements across all pages of query results, if the
      * {@link #pageRequest()} specified that {@linkplain PageRequest#requestTotal the
      * total should be retrieved from the database}.
+     * If {@link #isTotalEstimated()}, the total might be an estimate.
      * @return the total number of elements across all pages.
      * @throws IllegalStateException if the total was not retrieved from the database.
      */
     long totalElements();
 
+    /**
+     * <p>Returns a stage that completes with the {@linkplain #totalElements()
+     * total number of elements} across all pages. A Jakarta Data provider may
+     * count the elements concurrently with retrieving the content of the page,
+     * such that the page is made available without waiting for the count,
+     * in which case the stage completes when the count completes. The value
+     * with which the stage completes is the same as the value of
+     * {@link #totalElements()}.</p>
+     *
+     * <p>The default implementation returns a completed stage with the value
+     * of {@link #totalElements()}, or a stage that completed exceptionally
+     * with the exception raised by {@link #totalElements()}.</p>
+     *
+     * @return a stage that completes with the total number of elements across
+     *         all pages, or completes exceptionally with
+     *         {@link IllegalStateException} if the total was not retrieved
+     *         from the database.
+     */
+    default CompletionStage<Long> totalElementsAsync() {
+        try {
+            return CompletableFuture.completedFuture(totalElements());
+        } catch (IllegalStateException | UnsupportedOperationException x) {
+            return CompletableFuture.failedFuture(x);
+        }
+    }
+
     /**
      * Returns the total number of pages of query results, if the {@link #pageRequest()}
      * specified that {@linkplain PageRequest#requestTotal the total should be retrieved
      * from the database}.
+     * If {@link #isTotalEstimated()}, the total might be an estimate.
      * @return the total number of pages.
      * @throws IllegalStateException if the total was not retrieved from the database.
      */
@@ -22,6 +22,7 @@ import jakarta.data.Order;
 import jakarta.data.Sort;
 import jakarta.data.repository.OrderBy;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
 
@@ -230,6 +231,28 @@ public interface PageRequest {
      */
     boolean requestTotal();
 
+    /**
+     * <p>Indicates that a query method which returns a {@link Page}
+     * may supply an estimate of the {@linkplain Page#totalElements()
+     * total number of elements} available across all pages rather than
+     * an exact count. A Jakarta Data provider might obtain the estimate
+     * from statistics that the database maintains, avoiding the cost of
+     * counting all results of the query. The provider is not required to
+     * estimate and may instead supply an exact count. This behavior is
+     * disabled by default. To obtain a page request with estimated totals
+     * enabled, call {@link #withEstimatedTotal()}.</p>
+     *
+     * <p>If this method returns {@code true}, then {@link #requestTotal()}
+     * also returns {@code true}.</p>
+     *
+     * <p>The default implementation returns {@code false}.</p>
+     *
+     * @return {@code true} if the total number of elements may be an estimate.
+     */
+    default boolean requestEstimatedTotal() {
+        return false;
+    }
+
     /**
      * <p>Creates a new page request with the same pagination information,
      * but with the specified maximum page size. When a page is retrieved
@@ -259,8 +282,26 @@ public interface PageRequest {
 
     /**
      * Returns an otherwise-equivalent page request with
-     * {@link #requestTotal()} set to {@code false}, so that
-     * totals will be retrieved from the database.
+     * {@link #requestTotal()} and {@link #requestEstimatedTotal()}
+     * set to {@code true}, so that totals will be retrieved, but
+     * may be estimated rather than counted exactly. The
+     * {@link Page#isTotalEstimated()} method of a page indicates
+     * whether its totals might be an estimate.
+     * <p>Because a Jakarta Data provider is never required to estimate,
+     * the default implementation returns {@link #withTotal()}, for
+     * which exact totals are retrieved.</p>
+     * @return a page request with {@link #requestTotal()} and
+     *         {@link #requestEstimatedTotal()} set to {@code true}.
+     */
+    default PageRequest withEstimatedTotal() {
+        return withTotal();
+    }
+
+    /**
+     * Returns an otherwise-equivalent page request with
+     * {@link #requestTotal()} set to {@code true} and
+     * {@link #requestEstimatedTotal()} set to {@code false}, so that
+     * exact totals will be retrieved from the database.
      * @return a page request with {@link #requestTotal()}
      *         set to {@code true}.
      */
@@ -305,7 +346,9 @@ public interface PageRequest {
          * Returns whether or not the values that make up the key of this cursor
          * are equal to those of the supplied cursor.
          * Both instances must also have the same cursor implementation class
-         * in order to be considered equal.
+         * in order to be considered equal, except that the built-in cursors
+         * that are obtained from the {@code forKey} methods are equal to each
+         * other when their key values are equal.
          *
          * @param cursor a cursor against which to compare.
          * @return true or false.
@@ -323,6 +366,43 @@ public interface PageRequest {
          */
         Object get(int index);
 
+        /**
+         * <p>Returns the {@code int} key value at the specified position.</p>
+         *
+         * <p>For a cursor that {@linkplain #isPrimitive() holds primitive key
+         * values}, the value is obtained without boxing.</p>
+         *
+         * @param  index position (0 is first) of the key value to obtain.
+         * @return the key value at the specified position.
+         * @throws ClassCastException if the key value is not an {@link Integer}.
+         * @throws IndexOutOfBoundsException if the index is negative
+         *         or greater than or equal to the {@link #size}.
+         * @throws NullPointerException if the key value is {@code null}.
+         */
+        default int getInt(int index) {
+            return (Integer) get(index);
+        }
+
+        /**
+         * <p>Returns the {@code long} key value at the specified position.
+         * An {@link Integer} key value is widened to {@code long}.</p>
+         *
+         * <p>For a cursor that {@linkplain #isPrimitive() holds primitive key
+         * values}, the value is obtained without boxing.</p>
+         *
+         * @param  index position (0 is first) of the key value to obtain.
+         * @return the key value at the specified position.
+         * @throws ClassCastException if the key value is not a {@link Long}
+         *         or {@link Integer}.
+         * @throws IndexOutOfBoundsException if the index is negative
+         *         or greater than or equal to the {@link #size}.
+         * @throws NullPointerException if the key value is {@code null}.
+         */
+        default long getLong(int index) {
+            Object value = get(index);
+            return value instanceof Integer i ? i : (Long) value;
+        }
+
         /**
          * Returns a hash code based on the key values.
          *
@@ -331,6 +411,45 @@ public interface PageRequest {
         @Override
         int hashCode();
 
+        /**
+         * <p>Indicates whether this cursor holds its key values as primitive
+         * {@code int} or {@code long} values, as do cursors that are obtained
+         * from {@link #forIntKey(int)}, {@link #forIntKey(int, int)},
+         * {@link #forLongKey(long)}, and {@link #forLongKey(long, long)}. A Jakarta
+         * Data provider can use {@link #getInt(int)} and {@link #getLong(int)}
+         * to bind the key values of such a cursor without unboxing.</p>
+         *
+         * @return true if the key values are held as primitive values,
+         *         otherwise false.
+         */
+        default boolean isPrimitive() {
+            return false;
+        }
+
+        /**
+         * <p>Indicates whether this cursor holds an opaque continuation token
+         * that is native to the database rather than key values, as do cursors
+         * that are obtained from {@link #forNativeToken(byte[])}. A native
+         * cursor has no key values, and so its {@link #size()} is 0.</p>
+         *
+         * @return true if this cursor holds a native continuation token,
+         *         otherwise false.
+         */
+        default boolean isNative() {
+            return false;
+        }
+
+        /**
+         * Returns the opaque continuation token of a
+         * {@linkplain #isNative() native} cursor.
+         *
+         * @return a copy of the native continuation token.
+         * @throws UnsupportedOperationException if this cursor is not native.
+         */
+        default byte[] nativeToken() {
+            throw new UnsupportedOperationException("The cursor does not hold a native continuation token.");
+        }
+
         /**
          * Returns the number of values in the key.
          *
@@ -346,6 +465,62 @@ public interface PageRequest {
          */
         List<?> elements();
 
+        /**
+         * <p>Encodes the key values of this cursor to a compact, versioned
+         * binary form from which {@link #decode(byte[])} obtains an equal
+         * cursor. This is useful for stateless pagination, where the cursor
+         * of a page is sent to a client, which supplies it when requesting
+         * the next or previous page.</p>
+         *
+         * <p>Key values of type {@link Boolean}, {@link Byte}, {@link Short},
+         * {@link Integer}, {@link Long}, {@link Float}, {@link Double},
+         * {@link Character}, {@link String}, {@link java.math.BigInteger},
+         * {@link java.math.BigDecimal}, {@link java.util.UUID},
+         * {@link java.time.LocalDate}, {@link java.time.LocalTime},
+         * {@link java.time.LocalDateTime}, {@link java.time.Instant},
+         * {@link java.time.OffsetDateTime}, and {@link java.time.ZonedDateTime},
+         * as well as {@code null}, can be encoded. The token of a
+         * {@linkplain #isNative() native} cursor is encoded as is. The encoding is not
+         * encrypted or signed, and so it does not prevent a client from
+         * reading or altering the key values.</p>
+         *
+         * @return the encoded cursor.
+         * @throws IllegalArgumentException if a key value has a type that
+         *         cannot be encoded.
+         */
+        default byte[] encode() {
+            return CursorCodec.encode(this);
+        }
+
+        /**
+         * Encodes the key values of this cursor into the supplied buffer,
+         * in the form that is described by {@link #encode()}, starting at
+         * the current position of the buffer and advancing its position
+         * past the encoded cursor.
+         *
+         * @param buffer buffer into which to write the encoded cursor.
+         * @throws IllegalArgumentException if a key value has a type that
+         *         cannot be encoded.
+         * @throws java.nio.BufferOverflowException if the buffer does not
+         *         have sufficient space remaining.
+         */
+        default void encode(ByteBuffer buffer) {
+            CursorCodec.encode(this, buffer);
+        }
+
+        /**
+         * Encodes the key values of this cursor, in the form that is
+         * described by {@link #encode()}, as URL-safe Base64 without
+         * padding, which is suitable for use as a query parameter.
+         *
+         * @return the encoded cursor.
+         * @throws IllegalArgumentException if a key value has a type that
+         *         cannot be encoded.
+         */
+        default String encodeBase64() {
+            return CursorCodec.encodeBase64(this);
+        }
+
         /**
          * String representation of the cursor, including the number of
          * key values in the cursor but not the values themselves.
@@ -355,6 +530,68 @@ public interface PageRequest {
         @Override
         String toString();
 
+        /**
+         * Obtain an instance of {@code Cursor} from the encoded form
+         * that is produced by {@link #encode()}.
+         *
+         * @param encoded the encoded cursor.
+         * @return a new instance of {@code Cursor}.
+         * @throws IllegalArgumentException if the bytes are not a valid
+         *         encoding of a cursor.
+         */
+        static Cursor decode(byte[] encoded) {
+            return CursorCodec.decode(ByteBuffer.wrap(encoded));
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} from the encoded form
+         * that is produced by {@link #encode()}, reading from the current
+         * position of the buffer and advancing its position past the
+         * encoded cursor.
+         *
+         * @param buffer buffer that is positioned at an encoded cursor.
+         * @return a new instance of {@code Cursor}.
+         * @throws IllegalArgumentException if the bytes are not a valid
+         *         encoding of a cursor.
+         */
+        static Cursor decode(ByteBuffer buffer) {
+            return CursorCodec.decode(buffer);
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} from the URL-safe Base64
+         * form that is produced by {@link #encodeBase64()}.
+         *
+         * @param encoded the encoded cursor, with or without padding.
+         * @return a new instance of {@code Cursor}.
+         * @throws IllegalArgumentException if the text is not a valid
+         *         encoding of a cursor.
+         */
+        static Cursor decodeBase64(String encoded) {
+            return CursorCodec.decodeBase64(encoded);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for an opaque continuation
+         * token that is native to the database, such as a paging state, the
+         * last evaluated key of a scan, a resume token, or a search-after
+         * position. A Jakarta Data provider can resume a scan from a native
+         * token without forming a query restriction from key values.</p>
+         *
+         * <p>A native cursor is only meaningful to the Jakarta Data provider
+         * and database from which the token was obtained. The token is
+         * included in the {@linkplain #encode() encoded form} of the cursor.
+         * A repository method must raise {@link UnsupportedOperationException}
+         * if it is supplied a native cursor that the Jakarta Data provider
+         * does not support.</p>
+         *
+         * @param token the native continuation token, which is copied.
+         * @return a new instance of {@code Cursor}.
+         */
+        static Cursor forNativeToken(byte[] token) {
+            return new NativeCursor(token.clone());
+        }
+
         /**
          * Obtain an instance of {@code Cursor} for the given key.
          * @param key the key
@@ -363,5 +600,63 @@ public interface PageRequest {
         static Cursor forKey(Object... key) {
             return new PageRequestCursor(key);
         }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a key that consists of
+         * a single {@code int} value. The cursor holds the value without
+         * boxing and returns it as an {@link Integer} from {@link #get(int)}.</p>
+         *
+         * <p>Unlike {@link #forKey(Object...)}, which retains the type of
+         * each value, this method widens a {@code byte}, {@code short}, or
+         * {@code char} argument to {@code int}.</p>
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forIntKey(int key) {
+            return PrimitiveCursor.ofInts(key);
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} for a key that consists of
+         * two {@code int} values. The cursor holds the values without
+         * boxing and returns them as {@link Integer} from {@link #get(int)}.
+         *
+         * @param key1 the first value of the key
+         * @param key2 the second value of the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forIntKey(int key1, int key2) {
+            return PrimitiveCursor.ofInts(key1, key2);
+        }
+
+        /**
+         * Obtain an instance of {@code Cursor} for a key that consists of
+         * a single {@code long} value. The cursor holds the value without
+         * boxing and returns it as a {@link Long} from {@link #get(int)}.
+         *
+         * @param key the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forLongKey(long key) {
+            return PrimitiveCursor.ofLongs(key);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a key that consists of
+         * two {@code long} values. The cursor holds the values without
+         * boxing and returns them as {@link Long} from {@link #get(int)}.</p>
+         *
+         * <p>Unlike {@link #forKey(Object...)}, which retains the type of
+         * each value, this method widens an {@code int} argument to
+         * {@code long}.</p>
+         *
+         * @param key1 the first value of the key
+         * @param key2 the second value of the key
+         * @return a new instance of {@code Cursor}
+         */
+        static Cursor forLongKey(long key1, long key2) {
+            return PrimitiveCursor.ofLongs(key1, key2);
+        }
     }
 }
\ No newline at end of file
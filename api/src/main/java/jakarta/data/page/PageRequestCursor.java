@@ -45,9 +45,25 @@ class PageRequestCursor implements PageRequest.Cursor {
 
     @Override
     public boolean equals(Object o) {
-        return this == o || o != null
-                && o.getClass() == getClass()
-                && Arrays.equals(key, ((PageRequestCursor) o).key);
+        if (this == o) {
+            return true;
+        } else if (o instanceof PageRequestCursor c) {
+            return Arrays.equals(key, c.key);
+        } else if (o instanceof PrimitiveCursor c) {
+            // compare the boxed values, such that Integer 1 is not equal to Long 1
+            int size = c.size();
+            if (key.length != size) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!c.get(i).equals(key[i])) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
     }
 
     @Override
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Walks through all pages of results, starting from an initial
+ * {@link PageRequest} and continuing with the {@link Page#nextPageRequest()
+ * next page request} of each page until the last page, providing the
+ * results of all pages as a single lazy {@link Stream}.</p>
+ *
+ * <p>For example, with the repository method,</p>
+ *
+ * <pre>
+ * &#64;Find
+ * &#64;OrderBy(_Customer.ID)
+ * CursoredPage&lt;Customer&gt; findByZipcode(int zipcode, PageRequest pageRequest);
+ * </pre>
+ *
+ * <p>all customers can be processed as follows, with up to 2 pages retrieved
+ * in advance of the page whose results are being processed,</p>
+ *
+ * <pre>
+ * try (Stream&lt;Customer&gt; all = PageWalker.stream(PageRequest.ofSize(100),
+ *                                                 req -&gt; customers.findByZipcode(55901, req),
+ *                                                 executor,
+ *                                                 2)) {
+ *     all.forEach(this::export);
+ * }
+ * </pre>
+ *
+ * <p>Because the request for each page depends on the page before it, the
+ * pages are retrieved one after the other. Prefetching overlaps retrieval
+ * of the next pages with processing of the results of the current page.
+ * The executor can be one that creates a new virtual thread for each task,
+ * on Java versions where virtual threads are available.</p>
+ *
+ * <p>No page is requested until the first result is requested from the
+ * stream. Closing the stream stops the retrieval of further pages. A page
+ * that is already being retrieved when the stream is closed is discarded.
+ * The stream can be closed from a thread other than the thread that
+ * consumes it, in which case the consumer stops at the next result.
+ * If retrieval of a page fails, the exception is raised to the consumer of
+ * the stream when it reaches the results of that page.</p>
+ *
+ * <p>For scans of very large numbers of entities,
+ * {@link jakarta.data.page.impl.KeyRangePartitions} provides a stream that can
+ * be processed in parallel, by dividing a range of key values into sub-ranges,
+ * each of which is retrieved independently.</p>
+ */
+public final class PageWalker {
+
+    // prevent instantiation
+    private PageWalker() {
+    }
+
+    /**
+     * <p>Obtains a sequential, ordered stream of the results of all pages,
+     * retrieving each page on the thread that consumes the stream, when the
+     * results of the previous page have been consumed.</p>
+     *
+     * @param <T>              type of result.
+     * @param firstPageRequest request for the first page.
+     * @param pageFinder       function that retrieves the page of results
+     *                         for a page request.
+     * @return stream of the results of all pages.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    public static <T> Stream<T> stream(PageRequest firstPageRequest,
+                                       Function<PageRequest, ? extends Page<T>> pageFinder) {
+        return stream(firstPageRequest, pageFinder, Runnable::run, 0);
+    }
+
+    /**
+     * <p>Obtains a sequential, ordered stream of the results of all pages,
+     * retrieving pages on the supplied executor ahead of the page whose
+     * results are being consumed.</p>
+     *
+     * @param <T>              type of result.
+     * @param firstPageRequest request for the first page.
+     * @param pageFinder       function that retrieves the page of results
+     *                         for a page request.
+     * @param executor         executor on which to retrieve pages.
+     * @param prefetch         maximum number of pages to retrieve in advance
+     *                         of the page whose results are being consumed.
+     *                         Zero means pages are not retrieved in advance.
+     * @return stream of the results of all pages. The stream should be
+     *         closed if it is not consumed to the end.
+     * @throws IllegalArgumentException if the prefetch is negative.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <T> Stream<T> stream(PageRequest firstPageRequest,
+                                       Function<PageRequest, ? extends Page<T>> pageFinder,
+                                       Executor executor,
+                                       int prefetch) {
+        Objects.requireNonNull(firstPageRequest, "First page request must not be null");
+        Objects.requireNonNull(pageFinder, "Page finder must not be null");
+        Objects.requireNonNull(executor, "Executor must not be null");
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("Prefetch must not be negative: " + prefetch);
+        }
+        PageSpliterator<T> spliterator = new PageSpliterator<>(firstPageRequest, pageFinder, executor, prefetch);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Spliterator over the results of a chain of pages, which are retrieved
+     * by a chain of dependent asynchronous stages. Each stage retrieves the
+     * page after the page of the stage before it, or completes with
+     * {@code null} after the last page. The stages that are pending are
+     * guarded by their lock, because the stream can be closed from a
+     * thread other than the thread that consumes it.
+     */
+    private static final class PageSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Executor executor;
+        private final PageRequest firstPageRequest;
+        private final Function<PageRequest, ? extends Page<T>> pageFinder;
+        private final Deque<CompletableFuture<Page<T>>> pending;
+        private final int prefetch;
+
+        private volatile boolean closed;
+        private Iterator<T> current;
+        private CompletableFuture<Page<T>> last;
+        private boolean started;
+
+        private PageSpliterator(PageRequest firstPageRequest,
+                                Function<PageRequest, ? extends Page<T>> pageFinder,
+                                Executor executor,
+                                int prefetch) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.firstPageRequest = firstPageRequest;
+            this.pageFinder = pageFinder;
+            this.executor = executor;
+            this.prefetch = prefetch;
+            this.pending = new ArrayDeque<>(prefetch + 1);
+        }
+
+        private void close() {
+            synchronized (pending) {
+                closed = true;
+                pending.forEach(stage -> stage.cancel(false));
+                pending.clear();
+                last = null;
+            }
+        }
+
+        private Page<T> find(PageRequest pageRequest) {
+            return closed ? null : pageFinder.apply(pageRequest);
+        }
+
+        private Page<T> next(Page<T> page) {
+            return page == null || !page.hasContent() || !page.hasNext()
+                    ? null
+                    : find(page.nextPageRequest());
+        }
+
+        /**
+         * Requests the pages that are needed, and obtains the stage that
+         * retrieves the next page, or null if the stream is closed.
+         */
+        private CompletableFuture<Page<T>> nextStage() {
+            synchronized (pending) {
+                if (closed) {
+                    return null;
+                }
+                // the first page and the pages after it to retrieve in advance,
+                // or else a page to replace the page that was consumed
+                do {
+                    last = last == null
+                            ? CompletableFuture.supplyAsync(() -> find(firstPageRequest), executor)
+                            : last.thenApplyAsync(this::next, executor);
+                    pending.add(last);
+                } while (!started && pending.size() <= prefetch);
+                started = true;
+                return pending.poll();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                current = null;
+                return false;
+            }
+            while (current == null || !current.hasNext()) {
+                CompletableFuture<Page<T>> stage = nextStage();
+                Page<T> page = stage == null ? null : await(stage);
+                if (page == null) {
+                    close();
+                    current = null;
+                    return false;
+                }
+                current = page.iterator();
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        // rethrows the exception that the page finder raised, as is
+        @SuppressWarnings("PMD.PreserveStackTrace")
+        private Page<T> await(CompletableFuture<Page<T>> stage) {
+            try {
+                return stage.join();
+            } catch (CompletionException x) {
+                close();
+                if (x.getCause() instanceof RuntimeException r) {
+                    throw r;
+                } else if (x.getCause() instanceof Error e) {
+                    throw e;
+                } else {
+                    throw x;
+                }
+            }
+        }
+    }
+}
@@ -22,7 +22,8 @@ import java.util.Optional;
 /**
  * Built-in implementation of PageRequest.
  */
-record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTotal) implements PageRequest {
+record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTotal, boolean requestEstimatedTotal)
+        implements PageRequest {
 
     Pagination {
         if (page < 1) {
@@ -31,29 +32,38 @@ record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTo
             throw new IllegalArgumentException("maxPageSize: " + size);
         }
 
-        if (mode != Mode.OFFSET && (type == null || type.size() == 0)) {
+        if (mode != Mode.OFFSET && (type == null || type.size() == 0 && !type.isNative())) {
             throw new IllegalArgumentException("No key values were provided.");
         }
     }
 
+    Pagination(long page, int size, Mode mode, Cursor type, boolean requestTotal) {
+        this(page, size, mode, type, requestTotal, false);
+    }
+
     @Override
     public PageRequest withoutTotal() {
-        return new Pagination(page, size, mode, type, false);
+        return new Pagination(page, size, mode, type, false, false);
+    }
+
+    @Override
+    public PageRequest withEstimatedTotal() {
+        return new Pagination(page, size, mode, type, true, true);
     }
 
     @Override
     public PageRequest withTotal() {
-        return new Pagination(page, size, mode, type, true);
+        return new Pagination(page, size, mode, type, true, false);
     }
 
     @Override
     public PageRequest afterCursor(Cursor cursor) {
-        return new Pagination(page, size, Mode.CURSOR_NEXT, cursor, requestTotal);
+        return new Pagination(page, size, Mode.CURSOR_NEXT, cursor, requestTotal, requestEstimatedTotal);
     }
 
     @Override
     public PageRequest beforeCursor(Cursor cursor) {
-        return new Pagination(page, size, Mode.CURSOR_PREVIOUS, cursor, requestTotal);
+        return new Pagination(page, size, Mode.CURSOR_PREVIOUS, cursor, requestTotal, requestEstimatedTotal);
     }
 
     @Override
@@ -75,7 +85,7 @@ record Pagination(long page, int size, Mode mode, Cursor type, boolean requestTo
 
     @Override
     public PageRequest size(int maxPageSize) {
-        return new Pagination(page, maxPageSize, mode, type, requestTotal);
+        return new Pagination(page, maxPageSize, mode, type, requestTotal, requestEstimatedTotal);
     }
 
 }
\ No newline at end of file
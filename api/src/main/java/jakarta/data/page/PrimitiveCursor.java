@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Built-in implementation of Cursor for cursor-based pagination with keys
+ * that consist of primitive {@code int} or {@code long} values. The values
+ * are held without boxing and the hash code is computed once.
+ * A primitive cursor is equal to a {@link PageRequestCursor} that has equal
+ * key values, and has the same hash code.
+ */
+final class PrimitiveCursor implements PageRequest.Cursor {
+    /**
+     * Hash code of the key values, which is the same as
+     * {@link Arrays#hashCode(Object[])} of the boxed values.
+     */
+    private final int hash;
+
+    /**
+     * Indicates whether the key values are {@code int} rather than {@code long}.
+     */
+    private final boolean isInt;
+
+    /**
+     * Key values.
+     */
+    private final long[] key;
+
+    /**
+     * Constructs a cursor with the specified key values.
+     *
+     * @param isInt whether the key values are {@code int} values.
+     * @param key   key values.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private PrimitiveCursor(boolean isInt, long... key) {
+        this.isInt = isInt;
+        this.key = key;
+        int h = 1;
+        for (long k : key) {
+            h = 31 * h + (isInt ? Integer.hashCode((int) k) : Long.hashCode(k));
+        }
+        this.hash = h;
+    }
+
+    static PrimitiveCursor ofInts(int... key) {
+        return new PrimitiveCursor(true, Arrays.stream(key).asLongStream().toArray());
+    }
+
+    static PrimitiveCursor ofLongs(long... key) {
+        return new PrimitiveCursor(false, key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof PrimitiveCursor c) {
+            return isInt == c.isInt && hash == c.hash && Arrays.equals(key, c.key);
+        } else if (o instanceof PageRequestCursor c) {
+            return hash == c.hashCode() && c.equals(this);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public Object get(int index) {
+        // not a conditional expression, which would promote Integer to long
+        if (isInt) {
+            return (int) key[index];
+        } else {
+            return key[index];
+        }
+    }
+
+    @Override
+    public int getInt(int index) {
+        if (isInt) {
+            return (int) key[index];
+        } else {
+            return PageRequest.Cursor.super.getInt(index);
+        }
+    }
+
+    @Override
+    public long getLong(int index) {
+        return key[index];
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean isPrimitive() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return key.length;
+    }
+
+    @Override
+    public List<?> elements() {
+        Object[] values = new Object[key.length];
+        for (int i = 0; i < key.length; i++) {
+            values[i] = get(i);
+        }
+        return List.of(values);
+    }
+
+    @Override
+    public String toString() {
+        return "Cursor@" + Integer.toHexString(hash) +
+                " with " + key.length + " values";
+    }
+}
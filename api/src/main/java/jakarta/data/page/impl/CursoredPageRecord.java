@@ -23,6 +23,8 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Record type implementing {@link CursoredPage}.
@@ -61,16 +63,105 @@ public record CursoredPageRecord<T>
             (List<T> content, List<PageRequest.Cursor> cursors, long totalElements, PageRequest pageRequest,
             boolean firstPage, boolean lastPage) {
         this(content, cursors, totalElements, pageRequest,
-                lastPage ? null : PageRequest.afterCursor(
+                lastPage ? null : TotalSettings.of(pageRequest, PageRequest.afterCursor(
                         cursors.get(cursors.size() - 1),
                         pageRequest.page() + 1,
                         pageRequest.size(),
-                        pageRequest.requestTotal()),
-                firstPage ? null : PageRequest.beforeCursor(
+                        pageRequest.requestTotal())),
+                firstPage ? null : TotalSettings.of(pageRequest, PageRequest.beforeCursor(
                         cursors.get(0),
                         pageRequest.page() == 1 ? 1 : pageRequest.page() - 1,
                         pageRequest.size(),
-                        pageRequest.requestTotal()));
+                        pageRequest.requestTotal())));
+    }
+
+    /**
+     * <p>Creates a page that obtains the cursor for each result from the
+     * supplied key extractor only when the cursor is requested, rather
+     * than requiring all cursors to be built in advance. The cursors for
+     * the first and last results, from which the next and previous page
+     * requests are formed, are built immediately. Each other cursor is
+     * built when it is first requested, and is retained for subsequent
+     * requests. If the same cursor is first requested concurrently by
+     * multiple threads, the key extractor might be invoked more than once
+     * for the same result.</p>
+     *
+     * @param <T> The type of elements on the page
+     * @param content The page content, that is, the query results, in order
+     * @param keyExtractor Function that obtains the {@link PageRequest.Cursor}
+     *                     for a result
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    page was obtained
+     * @param firstPage True, if this is the first page of results
+     * @param lastPage True, if this is the last page of results
+     * @return the page
+     */
+    public static <T> CursoredPageRecord<T> ofLazyCursors
+            (List<T> content, Function<? super T, PageRequest.Cursor> keyExtractor, long totalElements,
+            PageRequest pageRequest, boolean firstPage, boolean lastPage) {
+        return new CursoredPageRecord<>(content, new LazyCursorList<>(content, keyExtractor), totalElements,
+                pageRequest, firstPage, lastPage);
+    }
+
+    /**
+     * <p>Creates a page for which the database supplies
+     * {@linkplain PageRequest.Cursor#isNative() native} continuation tokens
+     * from which to resume rather than key values for each result. Cursors
+     * are not available for individual results of the page.</p>
+     *
+     * @param content The page content, that is, the query results, in order
+     * @param nextCursor The native cursor from which to resume for the next
+     *                   page, or {@code null} if this is the last page of results
+     * @param previousCursor The native cursor from which to resume for the
+     *                       previous page, or {@code null} if there is none,
+     *                       which is often the case because databases typically
+     *                       only resume forward
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    page was obtained
+     */
+    public CursoredPageRecord
+            (List<T> content, PageRequest.Cursor nextCursor, PageRequest.Cursor previousCursor,
+             long totalElements, PageRequest pageRequest) {
+        this(content, List.of(), totalElements, pageRequest,
+                nextCursor == null ? null : TotalSettings.of(pageRequest, PageRequest.afterCursor(
+                        nextCursor,
+                        pageRequest.page() + 1,
+                        pageRequest.size(),
+                        pageRequest.requestTotal())),
+                previousCursor == null ? null : TotalSettings.of(pageRequest, PageRequest.beforeCursor(
+                        previousCursor,
+                        pageRequest.page() == 1 ? 1 : pageRequest.page() - 1,
+                        pageRequest.size(),
+                        pageRequest.requestTotal())));
+    }
+
+    /**
+     * Compares the content, totals, and page requests of this page with
+     * another page. Cursors are not compared, because they are derived
+     * from the content, and comparing them would build every cursor of a
+     * page that {@linkplain #ofLazyCursors builds its cursors lazily}.
+     *
+     * @param o the other object
+     * @return true if the other object is an equal page
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o
+                || o instanceof CursoredPageRecord<?> that
+                && totalElements == that.totalElements
+                && content.equals(that.content)
+                && Objects.equals(pageRequest, that.pageRequest)
+                && Objects.equals(nextPageRequest, that.nextPageRequest)
+                && Objects.equals(previousPageRequest, that.previousPageRequest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, totalElements, pageRequest, nextPageRequest, previousPageRequest);
     }
 
     @Override
@@ -115,6 +206,10 @@ public record CursoredPageRecord<T>
 
     @Override
     public PageRequest.Cursor cursor(int index) {
+        if (cursors.isEmpty() && !content.isEmpty()) {
+            throw new UnsupportedOperationException("Cursors are not available for results of a page " +
+                                                    "that resumes from native continuation tokens.");
+        }
         return cursors.get(index);
     }
 
@@ -123,6 +218,11 @@ public record CursoredPageRecord<T>
         return totalElements >= 0;
     }
 
+    @Override
+    public boolean isTotalEstimated() {
+        return totalElements >= 0 && pageRequest.requestEstimatedTotal();
+    }
+
     @Override
     public long totalElements() {
         if (totalElements<0) {
@@ -139,4 +239,13 @@ public record CursoredPageRecord<T>
         int size = pageRequest.size();
         return (totalElements + size - 1) / size;
     }
+
+    @Override
+    public String toString() {
+        return "CursoredPageRecord[content=" + content +
+               ", totalElements=" + totalElements +
+               ", pageRequest=" + pageRequest +
+               ", nextPageRequest=" + nextPageRequest +
+               ", previousPageRequest=" + previousPageRequest + ']';
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.Limit;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Streams the entities whose keys are within a range of numeric key
+ * values, dividing the range into sub-ranges, each of which is retrieved
+ * independently, when the stream is processed in parallel. For example,
+ * with the repository method,</p>
+ *
+ * <pre>
+ * List&lt;Book&gt; findByIdBetweenOrderById(long minId, long maxId, Limit limit);
+ * </pre>
+ *
+ * <p>all books with Ids from 1 to 10,000,000 can be processed in parallel,
+ * with up to 1000 books retrieved per query, as follows,</p>
+ *
+ * <pre>
+ * KeyRangePartitions.stream(1L, 10_000_000L, 1000, Book::getId,
+ *                           books::findByIdBetweenOrderById)
+ *         .parallel()
+ *         .forEach(this::reindex);
+ * </pre>
+ */
+public final class KeyRangePartitions {
+
+    // prevent instantiation
+    private KeyRangePartitions() {
+    }
+
+    /**
+     * Retrieves, in ascending order of key, the entities whose keys are
+     * within a range of key values. For example, with the repository method,
+     *
+     * <pre>
+     * List&lt;Book&gt; findByIdBetweenOrderById(long minId, long maxId, Limit limit);
+     * </pre>
+     *
+     * <p>the key range finder is {@code books::findByIdBetweenOrderById}.</p>
+     *
+     * @param <T> type of entity.
+     */
+    @FunctionalInterface
+    public interface KeyRangeFinder<T> {
+        /**
+         * Retrieves, in ascending order of key, up to the maximum number
+         * of entities whose keys are within a range of key values.
+         *
+         * @param minKey minimum key value, inclusive.
+         * @param maxKey maximum key value, inclusive.
+         * @param limit  maximum number of entities to retrieve.
+         * @return entities in ascending order of key.
+         */
+        List<T> find(long minKey, long maxKey, Limit limit);
+    }
+
+    /**
+     * <p>Obtains an ordered stream of the entities whose keys are within a
+     * range of key values, in ascending order of key, which is retrieved in
+     * batches of up to {@code batchSize} entities. Each batch after the first
+     * is retrieved relative to the key of the last entity of the batch before
+     * it, in the manner of cursor-based pagination.</p>
+     *
+     * <p>When the stream is {@linkplain Stream#parallel() parallel}, the range
+     * of key values is divided into sub-ranges, each of which is retrieved by
+     * independent queries, such that the retrieval and processing of the
+     * entities is distributed across multiple threads and, typically, multiple
+     * database connections. A sub-range is not divided further once it spans
+     * no more than {@code batchSize} key values. The division assumes that
+     * keys are distributed evenly across the range.</p>
+     *
+     * @param <T>          type of entity.
+     * @param minKey       minimum key value, inclusive.
+     * @param maxKey       maximum key value, inclusive.
+     * @param batchSize    maximum number of entities to retrieve per query.
+     * @param keyExtractor function that obtains the key of an entity.
+     * @param finder       function that retrieves entities within a range of keys.
+     * @return stream of the entities in ascending order of key.
+     * @throws IllegalArgumentException if the batch size is less than 1.
+     * @throws NullPointerException if the key extractor or finder is {@code null}.
+     */
+    public static <T> Stream<T> stream(long minKey,
+                                       long maxKey,
+                                       int batchSize,
+                                       ToLongFunction<? super T> keyExtractor,
+                                       KeyRangeFinder<T> finder) {
+        Objects.requireNonNull(keyExtractor, "Key extractor must not be null");
+        Objects.requireNonNull(finder, "Finder must not be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        return StreamSupport.stream(new KeyRangeSpliterator<>(minKey, maxKey, batchSize, keyExtractor, finder),
+                                    false);
+    }
+
+    /**
+     * Spliterator over the entities within a range of keys, which splits by
+     * dividing the range of keys that it has not yet retrieved.
+     */
+    private static final class KeyRangeSpliterator<T> implements Spliterator<T> {
+        private final int batchSize;
+        private final KeyRangeFinder<T> finder;
+        private final ToLongFunction<? super T> keyExtractor;
+
+        private Iterator<T> batch;
+        private boolean done;
+        private long maxKey;
+        private long minKey;
+
+        private KeyRangeSpliterator(long minKey,
+                                    long maxKey,
+                                    int batchSize,
+                                    ToLongFunction<? super T> keyExtractor,
+                                    KeyRangeFinder<T> finder) {
+            this.minKey = minKey;
+            this.maxKey = maxKey;
+            this.batchSize = batchSize;
+            this.keyExtractor = keyExtractor;
+            this.finder = finder;
+            this.done = minKey > maxKey;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            // number of key values that remain, which bounds the number of entities
+            long width = maxKey - minKey + 1;
+            return done ? 0L : width > 0L ? width : Long.MAX_VALUE;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (batch == null || !batch.hasNext()) {
+                if (done) {
+                    return false;
+                }
+                batch = nextBatch();
+            }
+            action.accept(batch.next());
+            return true;
+        }
+
+        private Iterator<T> nextBatch() {
+            List<T> entities = finder.find(minKey, maxKey, Limit.of(batchSize));
+            int size = entities.size();
+            if (size == 0) {
+                done = true;
+            } else {
+                long lastKey = keyExtractor.applyAsLong(entities.get(size - 1));
+                if (lastKey < minKey || lastKey > maxKey) {
+                    throw new IllegalStateException("The key " + lastKey + " of the last entity is outside of the" +
+                                                    " requested range " + minKey + " to " + maxKey + ".");
+                }
+                if (size < batchSize || lastKey == maxKey) {
+                    done = true;
+                } else {
+                    minKey = lastKey + 1;
+                }
+            }
+            return entities.iterator();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // Only split when no entities are held,
+            // such that the split off prefix precedes all remaining entities
+            if (done || batch != null && batch.hasNext()
+                    || Long.compareUnsigned(maxKey - minKey, batchSize) <= 0) {
+                return null;
+            }
+            long mid = (minKey & maxKey) + ((minKey ^ maxKey) >> 1); // floor of average, without overflow
+            KeyRangeSpliterator<T> prefix = new KeyRangeSpliterator<>(minKey, mid, batchSize, keyExtractor, finder);
+            minKey = mid + 1;
+            return prefix;
+        }
+    }
+}
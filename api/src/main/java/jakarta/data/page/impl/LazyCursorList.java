@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Unmodifiable list of cursors, one for each element of the page content,
+ * that obtains the cursor for an element from its key extractor when the
+ * cursor is first requested, and then retains it. If the same cursor is
+ * first requested concurrently, the key extractor might be invoked more
+ * than once for the element.
+ *
+ * @param <T> The type of elements on the page
+ */
+final class LazyCursorList<T> extends AbstractList<PageRequest.Cursor> implements RandomAccess {
+
+    private final List<T> content;
+
+    private final PageRequest.Cursor[] cursors;
+
+    private final Function<? super T, PageRequest.Cursor> keyExtractor;
+
+    LazyCursorList(List<T> content, Function<? super T, PageRequest.Cursor> keyExtractor) {
+        this.content = Objects.requireNonNull(content, "Content must not be null");
+        this.keyExtractor = Objects.requireNonNull(keyExtractor, "Key extractor must not be null");
+        this.cursors = new PageRequest.Cursor[content.size()];
+    }
+
+    @Override
+    public PageRequest.Cursor get(int index) {
+        Objects.checkIndex(index, cursors.length);
+        // Cursors are immutable, so it is harmless if a race computes one twice
+        PageRequest.Cursor cursor = cursors[index];
+        if (cursor == null) {
+            cursor = Objects.requireNonNull(keyExtractor.apply(content.get(index)),
+                                            "Key extractor must not return null");
+            cursors[index] = cursor;
+        }
+        return cursor;
+    }
+
+    @Override
+    public int size() {
+        return cursors.length;
+    }
+}
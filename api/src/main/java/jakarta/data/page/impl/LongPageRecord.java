@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>Record type implementing {@link Page} for the results of a query that
+ * returns a single attribute of type {@code long}, such as entity ids,
+ * which holds the values without boxing. This may be used to simplify
+ * implementation of a repository interface. A repository method with
+ * return type {@code Page<Long>} may return an instance of this record,
+ * in which case the application can obtain the values as a
+ * {@link #longStream() LongStream} or with {@link #getLong(int)}, without
+ * boxing them. The {@link #content()} is a view that boxes each value
+ * when it is accessed.</p>
+ *
+ * @param pageRequest The {@link PageRequest page request} for which this
+ *                    page was obtained
+ * @param values The page content. The array is not copied and must not
+ *               be modified after the record is created.
+ * @param totalElements The total number of elements across all pages that
+ *                      can be requested for the query. A negative value
+ *                      indicates that a total count of elements and pages
+ *                      is not available.
+ * @param moreResults whether there is a (nonempty) next page of results
+ */
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+public record LongPageRecord(PageRequest pageRequest, long[] values, long totalElements, boolean moreResults)
+        implements Page<Long> {
+
+    /**
+     * Constructs a new instance, computing the {@link #moreResults}
+     * component as by {@link PageRecord#PageRecord(PageRequest, List, long)}.
+     *
+     * @param pageRequest   The {@link PageRequest page request} for which
+     *                      this page was obtained.
+     * @param values        The page content. The array is not copied and
+     *                      must not be modified after the record is created.
+     * @param totalElements The total number of elements across all pages
+     *                      that can be requested for the query. A negative
+     *                      value indicates that a total count of elements
+     *                      and pages is not available.
+     */
+    public LongPageRecord(PageRequest pageRequest, long[] values, long totalElements) {
+        this(pageRequest, values, totalElements,
+                values.length == pageRequest.size()
+                        && (totalElements < 0
+                                || pageRequest.requestEstimatedTotal()
+                                || totalElements > pageRequest.size() * pageRequest.page()));
+    }
+
+    /**
+     * Returns a copy of the values on the page.
+     *
+     * @return a new array containing the values on the page.
+     */
+    @Override
+    public long[] values() {
+        return values.clone();
+    }
+
+    /**
+     * Returns the value at the specified position on the page, without boxing.
+     *
+     * @param index position (0 is first) of the value to obtain.
+     * @return the value at the specified position.
+     * @throws IndexOutOfBoundsException if the index is negative or greater
+     *         than or equal to the {@link #numberOfElements()}.
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a sequential stream of the values on the page, without boxing.
+     *
+     * @return a stream of the values on the page.
+     */
+    public LongStream longStream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public List<Long> content() {
+        return new BoxingList(values);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return values.length > 0;
+    }
+
+    @Override
+    public int numberOfElements() {
+        return values.length;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return moreResults;
+    }
+
+    @Override
+    public PageRequest nextPageRequest() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return TotalSettings.of(pageRequest,
+                                PageRequest.ofPage(pageRequest.page() + 1,
+                                                   pageRequest.size(),
+                                                   pageRequest.requestTotal()));
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return pageRequest.page() > 1;
+    }
+
+    @Override
+    public PageRequest previousPageRequest() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+
+        return TotalSettings.of(pageRequest,
+                                PageRequest.ofPage(pageRequest.page() - 1,
+                                                   pageRequest.size(),
+                                                   pageRequest.requestTotal()));
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return longStream().iterator();
+    }
+
+    @Override
+    public Stream<Long> stream() {
+        return longStream().boxed();
+    }
+
+    @Override
+    public boolean hasTotals() {
+        return totalElements >= 0;
+    }
+
+    @Override
+    public boolean isTotalEstimated() {
+        return totalElements >= 0 && pageRequest.requestEstimatedTotal();
+    }
+
+    @Override
+    public long totalElements() {
+        if (totalElements<0) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        return totalElements;
+    }
+
+    @Override
+    public long totalPages() {
+        if (totalElements<0) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        int size = pageRequest.size();
+        return (totalElements + size - 1) / size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof LongPageRecord p
+                && totalElements == p.totalElements
+                && moreResults == p.moreResults
+                && pageRequest.equals(p.pageRequest)
+                && Arrays.equals(values, p.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = pageRequest.hashCode();
+        h = 31 * h + Arrays.hashCode(values);
+        h = 31 * h + Long.hashCode(totalElements);
+        return 31 * h + Boolean.hashCode(moreResults);
+    }
+
+    @Override
+    public String toString() {
+        return "LongPageRecord[pageRequest=" + pageRequest +
+                ", values=" + Arrays.toString(values) +
+                ", totalElements=" + totalElements +
+                ", moreResults=" + moreResults + ']';
+    }
+
+    /**
+     * Unmodifiable view of the values that boxes each value when it is accessed.
+     */
+    private static final class BoxingList extends AbstractList<Long> implements RandomAccess {
+        private final long[] values;
+
+        @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+        BoxingList(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * <p>Remembers the cursors at the boundaries of recently returned offset-based
+ * pages, so that a later request for a page at a large offset can be run as a
+ * cursor-based seek from the nearest preceding boundary rather than by reading
+ * and discarding all of the preceding entities. This may be used to simplify
+ * the implementation of repository methods that are annotated with
+ * {@link jakarta.data.repository.AccelerateOffsets AccelerateOffsets}.</p>
+ *
+ * <p>Boundaries are keyed by a query key that is supplied by the Jakarta Data
+ * provider. The query key must identify the query, its parameter values, and
+ * its sort criteria, and must have value-based {@code equals} and
+ * {@code hashCode}. Boundaries are recorded by offset rather than page number,
+ * so page requests of different sizes share boundaries. For example,</p>
+ *
+ * <pre>
+ * OffsetBoundaries.Seek seek = boundaries.seek(queryKey, pageRequest).orElse(null);
+ * List&lt;Product&gt; content = seek == null
+ *         ? queryWithOffset(pageRequest)
+ *         : queryAfterCursor(seek.cursor(), seek.skip(), pageRequest.size());
+ * if (content.size() == pageRequest.size()) {
+ *     boundaries.record(queryKey, pageRequest, cursorOf(content.get(content.size() - 1)));
+ * }
+ * </pre>
+ *
+ * <p>A remembered boundary becomes stale when entities are inserted,
+ * updated, or deleted such that entities are added before it or removed from
+ * before it. The Jakarta Data provider must {@linkplain #invalidate invalidate}
+ * or {@linkplain #clear clear} the boundaries when it modifies entities that
+ * can be returned by the query.</p>
+ *
+ * <p>Instances of this class are safe for use by multiple threads.</p>
+ *
+ * @param <K> the type of the query key.
+ */
+public final class OffsetBoundaries<K> {
+
+    /**
+     * A cursor-based seek that replaces an offset-based page request.
+     *
+     * @param cursor the cursor after which to seek, which is the cursor of the
+     *               last entity that precedes the seek.
+     * @param skip   the number of entities to skip after the cursor before the
+     *               first entity of the requested page.
+     */
+    public record Seek(PageRequest.Cursor cursor, long skip) {
+    }
+
+    private final int maxBoundaries;
+
+    private final Map<K, NavigableMap<Long, PageRequest.Cursor>> queries;
+
+    /**
+     * Constructs an empty instance.
+     *
+     * @param maxQueries    the maximum number of query keys for which to
+     *                      remember boundaries. The least recently used query
+     *                      key is discarded first.
+     * @param maxBoundaries the maximum number of boundaries to remember for
+     *                      each query key. The boundary with the lowest offset
+     *                      is discarded first.
+     * @throws IllegalArgumentException if either maximum is less than 1.
+     */
+    public OffsetBoundaries(int maxQueries, int maxBoundaries) {
+        if (maxQueries < 1) {
+            throw new IllegalArgumentException("maxQueries: " + maxQueries);
+        } else if (maxBoundaries < 1) {
+            throw new IllegalArgumentException("maxBoundaries: " + maxBoundaries);
+        }
+        this.maxBoundaries = maxBoundaries;
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, NavigableMap<Long, PageRequest.Cursor>> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * Remembers the cursor of the last entity of a full page that was
+     * obtained for an offset-based page request.
+     *
+     * @param queryKey    identifies the query, its parameters, and its sort criteria.
+     * @param pageRequest the offset-based request for the page.
+     * @param lastCursor  the cursor of the last entity of the page.
+     * @throws IllegalArgumentException if the page request is not offset-based.
+     */
+    public void record(K queryKey, PageRequest pageRequest, PageRequest.Cursor lastCursor) {
+        record(queryKey, offsetOf(pageRequest.page(), pageRequest), lastCursor);
+    }
+
+    /**
+     * Remembers the cursor of the entity that precedes the entity at the
+     * given 0-based offset.
+     *
+     * @param queryKey identifies the query, its parameters, and its sort criteria.
+     * @param offset   the 0-based offset of the entity that follows the cursor.
+     * @param cursor   the cursor of the entity at {@code offset - 1}.
+     * @throws IllegalArgumentException if the offset is less than 1.
+     */
+    public void record(K queryKey, long offset, PageRequest.Cursor cursor) {
+        Objects.requireNonNull(queryKey, "queryKey");
+        Objects.requireNonNull(cursor, "cursor");
+        if (offset < 1) {
+            throw new IllegalArgumentException("offset: " + offset);
+        }
+        synchronized (queries) {
+            NavigableMap<Long, PageRequest.Cursor> boundaries = queries.computeIfAbsent(queryKey, k -> new TreeMap<>());
+            boundaries.put(offset, cursor);
+            if (boundaries.size() > maxBoundaries) {
+                boundaries.pollFirstEntry();
+            }
+        }
+    }
+
+    /**
+     * Finds the nearest remembered boundary that precedes the page of an
+     * offset-based page request.
+     *
+     * @param queryKey    identifies the query, its parameters, and its sort criteria.
+     * @param pageRequest the offset-based request for a page.
+     * @return the seek from the nearest preceding boundary, or empty if
+     *         there is none, in which case true offset-based pagination
+     *         must be used.
+     * @throws IllegalArgumentException if the page request is not offset-based.
+     */
+    public Optional<Seek> seek(K queryKey, PageRequest pageRequest) {
+        return seek(queryKey, offsetOf(pageRequest.page() - 1, pageRequest));
+    }
+
+    /**
+     * Finds the nearest remembered boundary at or before the given 0-based offset.
+     *
+     * @param queryKey identifies the query, its parameters, and its sort criteria.
+     * @param offset   the 0-based offset of the first entity to obtain.
+     * @return the seek from the nearest preceding boundary, or empty if
+     *         there is none.
+     */
+    public Optional<Seek> seek(K queryKey, long offset) {
+        Objects.requireNonNull(queryKey, "queryKey");
+        Map.Entry<Long, PageRequest.Cursor> boundary;
+        synchronized (queries) {
+            NavigableMap<Long, PageRequest.Cursor> boundaries = queries.get(queryKey);
+            boundary = boundaries == null ? null : boundaries.floorEntry(offset);
+        }
+        return boundary == null
+                ? Optional.empty()
+                : Optional.of(new Seek(boundary.getValue(), offset - boundary.getKey()));
+    }
+
+    /**
+     * Discards the remembered boundaries of a query key.
+     *
+     * @param queryKey identifies the query, its parameters, and its sort criteria.
+     */
+    public void invalidate(K queryKey) {
+        synchronized (queries) {
+            queries.remove(queryKey);
+        }
+    }
+
+    /**
+     * Discards all remembered boundaries.
+     */
+    public void clear() {
+        synchronized (queries) {
+            queries.clear();
+        }
+    }
+
+    /**
+     * Computes the 0-based offset that follows the given number of pages,
+     * saturating at {@link Long#MAX_VALUE}.
+     */
+    private static long offsetOf(long pages, PageRequest pageRequest) {
+        if (pageRequest.mode() != PageRequest.Mode.OFFSET) {
+            throw new IllegalArgumentException("mode: " + pageRequest.mode());
+        }
+        int size = pageRequest.size();
+        return pages > Long.MAX_VALUE / size ? Long.MAX_VALUE : pages * size;
+    }
+}
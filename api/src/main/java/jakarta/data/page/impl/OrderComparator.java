@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.internal.AttributeAccessor;
+import jakarta.data.internal.BoundedCache;
+
+/**
+ * <p>A {@link Comparator} that orders entities in memory according to the
+ * {@link Sort} criteria of an {@link Order}.</p>
+ *
+ * <p>An {@code OrderComparator} is compiled once for a given entity class and
+ * {@code Order}. Compilation resolves a method handle that reads the entity
+ * attribute of each sort criterion, so comparing two entities involves
+ * neither reflection nor a lookup by attribute name. Attributes of primitive numeric and boolean
+ * types are compared without boxing. Compiled comparators are cached by
+ * entity class and {@code Order}, up to a fixed number of comparators,
+ * such that</p>
+ *
+ * <pre>
+ * List&lt;Employee&gt; sorted = ...
+ * sorted.sort(OrderComparator.of(Employee.class,
+ *                                Order.by(_Employee.salary.desc(),
+ *                                         _Employee.lastName.ascIgnoreCase(),
+ *                                         _Employee.id.asc())));
+ * </pre>
+ *
+ * <p>compiles the comparator on first use only, even though a new, but equal,
+ * instance of {@code Order} is supplied on each invocation.</p>
+ *
+ * <p>Sorting is lexicographic, following the precedence of the sort criteria
+ * within the {@code Order}. For each sort criterion,</p>
+ * <ul>
+ * <li>values are compared according to their natural ordering, and must
+ *     therefore be {@link Comparable},</li>
+ * <li>{@link Sort#ignoreCase() case insensitive} criteria compare textual
+ *     values without regard to case, and otherwise have no effect,</li>
+ * <li>{@link Sort#isDescending() descending} criteria reverse the ordering,
+ *     and</li>
+ * <li>{@code null} values are ordered before non-null values in ascending
+ *     order, and after non-null values in descending order.</li>
+ * </ul>
+ *
+ * <p>Databases might collate text differently than the natural ordering of
+ * {@link String}, and might order {@code null} values differently. An
+ * {@code OrderComparator} is not guaranteed to reproduce the order in which
+ * the database returns results.</p>
+ *
+ * <p>Instances of {@code OrderComparator} are immutable and safe for use by
+ * multiple threads.</p>
+ *
+ * @param <T> entity class of the attributes that are used as sort criteria.
+ */
+public final class OrderComparator<T> implements Comparator<T> {
+
+    /**
+     * Maximum number of compiled comparators to retain.
+     */
+    private static final int MAX_CACHED = 256;
+
+    /**
+     * Compiled comparators, keyed by entity class and Order.
+     */
+    private static final BoundedCache<CacheKey, OrderComparator<?>> CACHE =
+            new BoundedCache<>(MAX_CACHED);
+
+    /**
+     * Comparison of an entity attribute, from highest precedence to lowest.
+     */
+    private final Key[] keys;
+
+    /**
+     * The order from which this comparator was compiled.
+     */
+    private final Order<T> order;
+
+    private OrderComparator(Class<T> entityClass, Order<T> order) {
+        List<Sort<? super T>> sorts = order.sorts();
+        this.order = order;
+        this.keys = new Key[sorts.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Key.of(entityClass, sorts.get(i));
+        }
+    }
+
+    /**
+     * <p>Obtains a comparator that orders entities according to the given
+     * sort criteria. The comparator is compiled when first requested for the
+     * entity class and sort criteria, and is reused for subsequent requests
+     * with an equal {@code Order}.</p>
+     *
+     * @param <T>         entity class of the attributes that are used as sort criteria.
+     * @param entityClass entity class of the attributes that are used as sort criteria.
+     * @param order       sort criteria.
+     * @return a comparator for the sort criteria. This method never returns {@code null}.
+     * @throws NullPointerException if the entity class or order is {@code null}.
+     * @throws MappingException if the entity class has no attribute of the
+     *         name that is specified by a sort criterion, or the attribute
+     *         cannot be accessed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> OrderComparator<T> of(Class<T> entityClass, Order<T> order) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(order, "order is required");
+
+        return (OrderComparator<T>) CACHE.get(new CacheKey(entityClass, order),
+                                              k -> new OrderComparator<>(entityClass, order));
+    }
+
+    @Override
+    public int compare(T entity1, T entity2) {
+        try {
+            for (Key key : keys) {
+                int comparison = key.compare(entity1, entity2);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return 0;
+        } catch (RuntimeException | Error x) {
+            throw x;
+        } catch (Throwable x) {
+            throw new MappingException(x);
+        }
+    }
+
+    /**
+     * The order from which this comparator was compiled.
+     *
+     * @return the sort criteria.
+     */
+    public Order<T> order() {
+        return order;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderComparator" + order;
+    }
+
+    /**
+     * Comparison of a single entity attribute.
+     */
+    private abstract static class Key {
+        /**
+         * Method handle that reads the attribute.
+         */
+        private final MethodHandle getter;
+
+        /**
+         * Whether the ordering is descending.
+         */
+        private final boolean descending;
+
+        Key(MethodHandle getter, boolean descending) {
+            this.getter = getter;
+            this.descending = descending;
+        }
+
+        static Key of(Class<?> entityClass, Sort<?> sort) {
+            AttributeAccessor<?> accessor = AttributeAccessor.of(entityClass, sort.property());
+            Class<?> type = accessor.type();
+            MethodHandle getter = accessor.getter();
+            if (type == long.class || type == int.class || type == short.class
+                    || type == byte.class || type == char.class) {
+                return new LongKey(getter.asType(MethodType.methodType(long.class, Object.class)),
+                                   sort.isDescending());
+            } else if (type == double.class || type == float.class) {
+                return new DoubleKey(getter.asType(MethodType.methodType(double.class, Object.class)),
+                                     sort.isDescending());
+            } else if (type == boolean.class) {
+                return new BooleanKey(getter.asType(MethodType.methodType(boolean.class, Object.class)),
+                                      sort.isDescending());
+            } else {
+                return new ObjectKey(getter.asType(MethodType.methodType(Object.class, Object.class)),
+                                     sort.isDescending(),
+                                     sort.ignoreCase());
+            }
+        }
+
+        final int compare(Object entity1, Object entity2) throws Throwable {
+            return descending() ? compareAscending(entity2, entity1) : compareAscending(entity1, entity2);
+        }
+
+        abstract int compareAscending(Object entity1, Object entity2) throws Throwable;
+
+        final MethodHandle getter() {
+            return getter;
+        }
+
+        final boolean descending() {
+            return descending;
+        }
+    }
+
+    private static final class BooleanKey extends Key {
+        BooleanKey(MethodHandle getter, boolean descending) {
+            super(getter, descending);
+        }
+
+        @Override
+        int compareAscending(Object entity1, Object entity2) throws Throwable {
+            return Boolean.compare((boolean) getter().invokeExact(entity1),
+                                   (boolean) getter().invokeExact(entity2));
+        }
+    }
+
+    private static final class DoubleKey extends Key {
+        DoubleKey(MethodHandle getter, boolean descending) {
+            super(getter, descending);
+        }
+
+        @Override
+        int compareAscending(Object entity1, Object entity2) throws Throwable {
+            return Double.compare((double) getter().invokeExact(entity1),
+                                  (double) getter().invokeExact(entity2));
+        }
+    }
+
+    private static final class LongKey extends Key {
+        LongKey(MethodHandle getter, boolean descending) {
+            super(getter, descending);
+        }
+
+        @Override
+        int compareAscending(Object entity1, Object entity2) throws Throwable {
+            return Long.compare((long) getter().invokeExact(entity1),
+                                (long) getter().invokeExact(entity2));
+        }
+    }
+
+    private static final class ObjectKey extends Key {
+        /**
+         * Whether to compare textual values without regard to case.
+         */
+        private final boolean ignoreCase;
+
+        ObjectKey(MethodHandle getter, boolean descending, boolean ignoreCase) {
+            super(getter, descending);
+            this.ignoreCase = ignoreCase;
+        }
+
+        @Override
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        int compareAscending(Object entity1, Object entity2) throws Throwable {
+            Object value1 = (Object) getter().invokeExact(entity1);
+            Object value2 = (Object) getter().invokeExact(entity2);
+            if (value1 == null || value2 == null) {
+                return value1 == null ? (value2 == null ? 0 : -1) : 1;
+            } else if (ignoreCase && value1 instanceof String s1 && value2 instanceof String s2) {
+                return String.CASE_INSENSITIVE_ORDER.compare(s1, s2);
+            } else {
+                return ((Comparable) value1).compareTo(value2);
+            }
+        }
+    }
+
+    /**
+     * Key of a compiled comparator.
+     */
+    private record CacheKey(Class<?> entityClass, Order<?> order) {
+    }
+}
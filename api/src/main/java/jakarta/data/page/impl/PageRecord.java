@@ -23,6 +23,7 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Record type implementing {@link Page}.
@@ -45,7 +46,8 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
      * Constructs a new instance, computing the {@link #moreResults}
      * component as {@code true} if the page {@code content} is a full
      * page of results and the {@code totalElements} is either unavailable
-     * (indicated by a negative value) or it exceeds the current
+     * (indicated by a negative value), might be an estimate (as permitted
+     * by {@link PageRequest#requestEstimatedTotal()}), or it exceeds the current
      * {@linkplain PageRequest#page() page number} multiplied by the
      * {@link PageRequest#size() size} of a full page.
      *
@@ -61,9 +63,48 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
         this( pageRequest, content, totalElements,
                 content.size() == pageRequest.size()
                         && (totalElements < 0
+                                || pageRequest.requestEstimatedTotal()
                                 || totalElements > pageRequest.size() * pageRequest.page() ));
     }
 
+    /**
+     * <p>Combines the results of a query for the page content and a query for
+     * the total number of elements that run concurrently, such that the page
+     * is available after the slower of the two queries rather than after both
+     * have run one after the other. Both queries should be started before
+     * invoking this method. For example,</p>
+     *
+     * <pre>
+     * CompletableFuture&lt;List&lt;Car&gt;&gt; content =
+     *         CompletableFuture.supplyAsync(() -&gt; queryContent(pageRequest), executor);
+     * CompletableFuture&lt;Long&gt; total = pageRequest.requestTotal()
+     *         ? CompletableFuture.supplyAsync(() -&gt; queryCount(), executor)
+     *         : CompletableFuture.completedFuture(-1L);
+     * return PageRecord.combine(pageRequest, content, total);
+     * </pre>
+     *
+     * <p>The {@link #moreResults} component is computed as by
+     * {@link #PageRecord(PageRequest, List, long)}.</p>
+     *
+     * @param pageRequest   The {@link PageRequest page request} for which
+     *                      the page is obtained.
+     * @param content       Stage that completes with the page content.
+     * @param totalElements Stage that completes with the total number of
+     *                      elements across all pages that can be requested for
+     *                      the query. A negative value indicates that a total
+     *                      count of elements and pages is not available.
+     * @param <T>           The type of elements on the page.
+     * @return a stage that completes with the page once both the content and
+     *         the total are available, or completes exceptionally if either
+     *         of them completes exceptionally.
+     */
+    public static <T> CompletionStage<PageRecord<T>> combine(PageRequest pageRequest,
+                                                             CompletionStage<? extends List<T>> content,
+                                                             CompletionStage<Long> totalElements) {
+        return content.thenCombine(totalElements,
+                                   (list, total) -> new PageRecord<>(pageRequest, list, total));
+    }
+
     @Override
     public boolean hasContent() {
         return !content.isEmpty();
@@ -85,9 +126,10 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.page() + 1,
-                                  pageRequest.size(),
-                                  pageRequest.requestTotal());
+        return TotalSettings.of(pageRequest,
+                                PageRequest.ofPage(pageRequest.page() + 1,
+                                                   pageRequest.size(),
+                                                   pageRequest.requestTotal()));
     }
 
     @Override
@@ -101,9 +143,10 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.page() - 1,
-                pageRequest.size(),
-                pageRequest.requestTotal());
+        return TotalSettings.of(pageRequest,
+                                PageRequest.ofPage(pageRequest.page() - 1,
+                                                   pageRequest.size(),
+                                                   pageRequest.requestTotal()));
     }
 
     @Override
@@ -116,6 +159,11 @@ public record PageRecord<T>(PageRequest pageRequest, List<T> content, long total
         return totalElements >= 0;
     }
 
+    @Override
+    public boolean isTotalEstimated() {
+        return totalElements >= 0 && pageRequest.requestEstimatedTotal();
+    }
+
     @Override
     public long totalElements() {
         if (totalElements<0) {
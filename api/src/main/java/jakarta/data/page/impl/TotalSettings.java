@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+
+// Internal implementation class.
+// Applies the settings for the retrieval of totals of the request for a page
+// to the requests for the next and previous pages.
+final class TotalSettings {
+
+    // prevent instantiation
+    private TotalSettings() {
+    }
+
+    /**
+     * Applies the settings for totals of a page request to the request
+     * for an adjacent page.
+     *
+     * @param pageRequest     the request for the page that was obtained.
+     * @param adjacentRequest the request for the next or previous page.
+     * @return the request for the adjacent page.
+     */
+    static PageRequest of(PageRequest pageRequest, PageRequest adjacentRequest) {
+        if (!pageRequest.requestTotal()) {
+            return adjacentRequest.withoutTotal();
+        } else if (pageRequest.requestEstimatedTotal()) {
+            return adjacentRequest.withEstimatedTotal();
+        } else {
+            return adjacentRequest.withTotal();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import jakarta.data.page.PageRequest;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Annotates a repository method that performs offset-based pagination
+ * to allow the Jakarta Data provider to accelerate requests for pages at
+ * large offsets.</p>
+ *
+ * <p>An offset-based request for a page at a large offset, such as
+ * {@code PageRequest.ofPage(10000)}, requires the database to read and
+ * discard all of the entities that precede the page. When a repository
+ * method is annotated with {@code AccelerateOffsets}, the Jakarta Data
+ * provider may remember the cursor of the last entity of each page that it
+ * has recently returned, keyed by the query, its parameter values, and its
+ * sort criteria. A later request for a page at or after a remembered
+ * boundary may then be run as a cursor-based seek that starts after the
+ * nearest preceding boundary and skips only the entities between that
+ * boundary and the requested page.</p>
+ *
+ * <pre>
+ * &#64;Find
+ * &#64;AccelerateOffsets
+ * &#64;OrderBy(_Product.PRICE)
+ * &#64;OrderBy(_Product.ID)
+ * Page&lt;Product&gt; ofCategory(&#64;By(_Product.CATEGORY) String category,
+ *                          PageRequest pageRequest);
+ * </pre>
+ *
+ * <p>The annotation does not change the results of the repository method.
+ * The content of each page must be identical to the content that is obtained
+ * by true offset-based pagination. A Jakarta Data provider that accelerates
+ * offsets must therefore only do so if the combined sort criteria define a
+ * deterministic ordering of entities, must discard remembered boundaries
+ * for an entity type when it modifies entities of that type, and must
+ * otherwise use true offset-based pagination. A Jakarta Data provider is
+ * permitted to ignore this annotation.</p>
+ *
+ * <p>This annotation applies only to repository methods that accept a
+ * {@link PageRequest} and return {@link jakarta.data.page.Page Page}.
+ * A Jakarta Data provider is permitted to reject the annotation on other
+ * repository methods at compile time or to ignore it.</p>
+ *
+ * @see jakarta.data.page.impl.OffsetBoundaries
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AccelerateOffsets {
+
+    /**
+     * <p>The maximum number of page boundaries to remember for each
+     * combination of query, parameter values, and sort criteria. When the
+     * maximum is exceeded, the boundary with the lowest offset is discarded
+     * first, because pages at low offsets are the least expensive to obtain
+     * by true offset-based pagination.</p>
+     *
+     * <p>The default value is {@code 64}.</p>
+     *
+     * @return the maximum number of page boundaries to remember per query.
+     */
+    int maxBoundaries() default 64;
+}
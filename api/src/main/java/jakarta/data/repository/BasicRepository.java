@@ -23,6 +23,7 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -139,7 +140,9 @@ public interface BasicRepository<T, K> extends DataRepository<T, K> {
     <S extends T> List<S> saveAll(List<S> entities);
 
     /**
-     * Retrieves an entity by its Id.
+     * Retrieves an entity by its Id. Concurrent invocations of this method can be
+     * combined into a single query by annotating the repository with
+     * {@link CoalesceLookups}.
      *
      * @param id must not be {@code null}.
      * @return the entity with the given Id or {@link Optional#empty()} if none is found.
@@ -149,7 +152,45 @@ public interface BasicRepository<T, K> extends DataRepository<T, K> {
     Optional<T> findById(@By(ID) K id);
 
     /**
-     * Retrieves all persistent entities of the specified type from the database.
+     * <p>Retrieves the entities with the given Ids in as few round trips to the
+     * database as possible, rather than with a query per Id.</p>
+     *
+     * <p>The Jakarta Data provider must accept any number of Ids. If the number
+     * of Ids exceeds the maximum that the database or its driver can accept in a
+     * single query, the provider splits the Ids into batches, each of which is no
+     * larger than a provider-defined maximum batch size, and combines the results.</p>
+     *
+     * <p>The returned map contains an entry for each distinct Id for which an
+     * entity is found, and iterates its entries in the order in which their
+     * Ids are first supplied. Ids for which no entity is found are omitted.</p>
+     *
+     * @param ids must not be {@code null}. Must not contain {@code null} elements.
+     * @return a map of Id to entity, with the order of the supplied Ids; will never be {@code null}.
+     * @throws NullPointerException when the iterable is {@code null} or contains {@code null} elements.
+     */
+    @Find
+    Map<K, T> findByIds(@By(ID) Iterable<K> ids);
+
+    /**
+     * <p>Retrieves all persistent entities of the specified type from the database.</p>
+     *
+     * <p>The order of the entities within the stream is unspecified, because
+     * this method has no sort criteria. The stream contains each entity that
+     * exists when the stream is obtained exactly once, unless the entity is
+     * deleted while the stream is being consumed. Entities that are inserted
+     * while the stream is being consumed might or might not be included.</p>
+     *
+     * <p>If the stream is made {@linkplain Stream#parallel() parallel}, a Jakarta
+     * Data provider is permitted to divide it for parallel processing, for
+     * example, by partitioning the range of entity Ids into sub-ranges that are
+     * retrieved by independent queries, rather than retrieving all entities from
+     * a single database cursor. A stream that is divided must contain the same
+     * entities as a stream that is not divided. A Jakarta Data provider is not
+     * required to divide the stream. An application can obtain a stream that is
+     * divided in this way across a range of numeric Ids with
+     * {@link jakarta.data.page.impl.KeyRangePartitions#stream}, and can obtain
+     * the entities in a defined order, a page at a time, with
+     * {@link #findAll(PageRequest, Order)} instead.</p>
      *
      * @return a stream of all entities; will never be {@code null}.
      * @throws UnsupportedOperationException  for Key-Value and Wide-Column databases that are not capable
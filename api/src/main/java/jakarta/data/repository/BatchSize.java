@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Specifies the number of entities that a lifecycle method which accepts
+ * multiple entities writes to the database per batch.</p>
+ *
+ * <p>A lifecycle method annotated with {@link Insert}, {@link Update},
+ * {@link Save}, or {@link Delete} that accepts a {@code List<E>} or
+ * {@code E[]} of entities, such as {@link BasicRepository#saveAll(java.util.List)}
+ * or {@link CrudRepository#insertAll(java.util.List)}, ordinarily leaves the
+ * grouping of writes to the Jakarta Data provider. When such a method is
+ * annotated with {@code BatchSize}, the Jakarta Data provider writes the
+ * entities in batches of at most {@link #value()} entities, each of which is
+ * sent to the database in a single round trip, for example, as a JDBC
+ * statement batch or as a single statement that writes multiple entities.
+ * When a repository interface is annotated, the annotation applies to all of
+ * its lifecycle methods that accept multiple entities, including inherited
+ * methods, unless the method is annotated with its own {@code BatchSize}.</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * public interface Products extends CrudRepository&lt;Product, Long&gt; {
+ *
+ *     &#64;Insert
+ *     &#64;BatchSize(1000)
+ *     Product[] addMultiple(Product... products);
+ * }
+ * </pre>
+ *
+ * <p>Batching does not change the results of the lifecycle method:</p>
+ * <ul>
+ * <li>entity instances that are returned by the method must include all
+ *     automatically generated identifiers, versions, and other generated values,
+ *     in the same order as the entities that are supplied to the method. If the
+ *     database or its driver is not capable of returning generated values for a
+ *     batch, the Jakarta Data provider must obtain them by other means, such as
+ *     writing smaller batches, rather than omit them,</li>
+ * <li>the method raises the same exceptions that it would raise if the entities
+ *     were written individually, such as
+ *     {@link jakarta.data.exceptions.EntityExistsException EntityExistsException} and
+ *     {@link jakarta.data.exceptions.OptimisticLockingFailureException OptimisticLockingFailureException},
+ *     which requires the Jakarta Data provider to check the update count of each
+ *     entity in a batch, and</li>
+ * <li>the transactional behavior of the method is unchanged.</li>
+ * </ul>
+ *
+ * <p>A Jakarta Data provider for a database that is not capable of batching
+ * writes is permitted to ignore this annotation.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface BatchSize {
+
+    /**
+     * <p>The maximum number of entities to write to the database per batch.
+     * The value must be at least {@code 1}. A Jakarta Data provider is
+     * permitted to reject a smaller value at compile time. Otherwise, the
+     * annotated lifecycle method must raise {@link IllegalArgumentException}
+     * when it is invoked.</p>
+     *
+     * @return the maximum number of entities per batch.
+     */
+    int value();
+}
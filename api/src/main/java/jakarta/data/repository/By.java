@@ -78,15 +78,24 @@ import java.lang.annotation.Target;
  *     List&lt;Person&gt; findByCity(String address_city);
  * }
  * </pre>
+ *
+ * <p>The {@code By} annotation may also annotate a component of a Java record
+ * that is used as a projection of an entity, mapping the record component to
+ * the entity attribute whose value it holds. The annotation is unnecessary
+ * when the record component name matches the entity attribute name.</p>
+ *
+ * <pre>
+ * record Contact(&#64;By("address.city") String city, String lastName) {}
+ * </pre>
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.PARAMETER)
+@Target({ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
 public @interface By {
 
     /**
-     * The name of the entity attribute mapped by the annotated parameter,
-     * or {@value #ID} to indicate the unique identifier attribute
-     * of the entity.
+     * The name of the entity attribute mapped by the annotated parameter
+     * or record component, or {@value #ID} to indicate the unique
+     * identifier attribute of the entity.
      *
      * @return the entity attribute name, or {@value #ID} to indicate the
      *         unique identifier attribute.
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Allows the Jakarta Data provider to coalesce concurrent lookups of single
+ * entities by their unique identifier into a single query.</p>
+ *
+ * <p>When many threads concurrently look up different entities by Id, each
+ * lookup is ordinarily its own query and round trip to the database. When a
+ * lookup method is annotated with {@code CoalesceLookups}, the Jakarta Data
+ * provider may hold each invocation for up to {@link #maxWaitMicros()} so that
+ * it can combine the invocations that arrive in that window into one query for
+ * all of their Ids, as by {@link BasicRepository#findByIds(Iterable)}, and then
+ * return to each caller the result for its own Id. This trades a small amount
+ * of latency per lookup for fewer queries under load.</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * &#64;CoalesceLookups(maxWaitMicros = 200)
+ * public interface Products extends BasicRepository&lt;Product, Long&gt; {
+ * }
+ * </pre>
+ *
+ * <p>A lookup method is a method annotated with {@link Find} that has a single
+ * parameter, which is annotated {@code @By(ID)}, and that returns the entity
+ * or an {@code Optional} of the entity, such as
+ * {@link BasicRepository#findById(Object)}. When a repository interface is
+ * annotated, the annotation applies to all of its lookup methods, including
+ * inherited lookup methods. Other repository methods are unaffected.</p>
+ *
+ * <p>Coalescing does not change the results of a lookup. In particular:</p>
+ * <ul>
+ * <li>each caller receives the entity for its own Id, or the same exception
+ *     that it would have received if the lookup had not been coalesced,</li>
+ * <li>an entity instance must not be returned to more than one caller,
+ *     unless the entity class is immutable, such as a Java record, and</li>
+ * <li>a lookup that runs within a transaction must not be coalesced with
+ *     lookups that run outside of the transaction or in other transactions.</li>
+ * </ul>
+ *
+ * <p>A Jakarta Data provider is permitted to ignore this annotation.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface CoalesceLookups {
+
+    /**
+     * <p>The maximum amount of time, in microseconds, for which a lookup can be
+     * held while waiting for concurrent lookups to combine with it. The Jakarta
+     * Data provider may run the combined query sooner, for example, when the
+     * {@link #maxBatchSize()} is reached.</p>
+     *
+     * <p>The default value is {@code 1000}, which is one millisecond.</p>
+     *
+     * @return the maximum time to hold a lookup, in microseconds.
+     */
+    int maxWaitMicros() default 1000;
+
+    /**
+     * <p>The maximum number of lookups to combine into a single query. The
+     * default value of {@code 0} indicates that the maximum is determined by
+     * the Jakarta Data provider, for example, from the maximum number of
+     * parameters that the database or its driver accepts in a statement.</p>
+     *
+     * @return the maximum number of lookups per query, or {@code 0} for a
+     *         maximum that is determined by the Jakarta Data provider.
+     */
+    int maxBatchSize() default 0;
+}
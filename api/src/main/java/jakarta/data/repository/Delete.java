@@ -68,8 +68,11 @@ import java.lang.annotation.Target;
  * <p>Alternatively, the {@code Delete} annotation may be used to annotate a repository method with no parameter of an
  * entity type. Then the repository method is interpreted as a parameter-based automatic query method. The entity type
  * to be deleted is the primary entity type of the repository. The method return type must be {@code void}, {@code int},
- * or {@code long}. Every parameter of the annotated method must have exactly the same type and name (the parameter name
- * in the Java source, or a name assigned by {@link By @By}) as an attribute of the entity class.
+ * or {@code long}. Every parameter of the annotated method must either have exactly the same type and name (the
+ * parameter name in the Java source, or a name assigned by {@link By @By}) as an attribute of the entity class, or be
+ * of type {@link jakarta.data.metamodel.restrict.Restriction Restriction}, where the type argument is the primary
+ * entity type. The conditions of a {@code Restriction} are combined with the conditions that are inferred from the
+ * other method parameters by logical conjunction.
  * Parameters of type {@code Sort}, {@code Order}, {@code Limit}, and {@code PageRequest} are prohibited.
  * </p>
  * <p>For example, consider an interface representing a garage:</p>
@@ -82,10 +85,14 @@ import java.lang.annotation.Target;
  *
  *     &#64;Delete
  *     void unpark(String registration);
+ *
+ *     &#64;Delete
+ *     long unparkMatching(Restriction&lt;Car&gt; restriction);
  * }
  * </pre>
  * <p>Here,{@code unparkAll()} deletes every {@code Car}, while {@code unpark(String)} deletes any {@code Car} with a
- * matching value of its {@code registration} attribute.
+ * matching value of its {@code registration} attribute, and {@code unparkMatching(Restriction)} deletes every
+ * {@code Car} that satisfies the restriction.
  * </p>
  * <p>An automatic query method annotated {@code Delete} removes every record which satisfies the parameter-based
  * conditions from the database. If the method return type is {@code int} or {@code long}, the method must return the
@@ -36,9 +36,34 @@ import java.lang.annotation.Target;
  * <li>have exactly the same type and name (the parameter name in the Java source, or a name assigned by {@link By @By})
  *     as an attribute of the entity class, or</li>
  * <li>be of type {@link jakarta.data.Limit}, {@link jakarta.data.Sort}, {@link jakarta.data.Order}, or
- *     {@link jakarta.data.page.PageRequest}.</li>
+ *     {@link jakarta.data.page.PageRequest}, or</li>
+ * <li>be of type {@link jakarta.data.metamodel.restrict.Restriction Restriction}, where the type argument is the
+ *     entity type that is returned by the method, or</li>
+ * <li>be annotated {@code @By(ID)} and be of type {@link Iterable} or a subtype such as {@link java.util.List}
+ *     or {@link java.util.Set}, where the type argument is the type of the unique identifier attribute of the entity,
+ *     such that entities are retrieved whose unique identifier is equal to any element. The Jakarta Data provider
+ *     must accept any number of elements, splitting them into batches where necessary, as described by
+ *     {@link BasicRepository#findByIds(Iterable)}.</li>
  * </ul>
  * <p>The query is inferred from the method parameters which match attributes of the entity.
+ * The conditions of a {@code Restriction} that is supplied to the method are combined with the conditions that are
+ * inferred from the other method parameters by logical conjunction, such that only entities which satisfy all of the
+ * conditions are retrieved.
+ * </p>
+ * <p>For example,</p>
+ * <pre>
+ * &#64;Repository
+ * interface Garage {
+ *     &#64;Find
+ *     List&lt;Car&gt; search(Restriction&lt;Car&gt; filter, Order&lt;Car&gt; order);
+ * }
+ *
+ * found = garage.search(Restrict.all(_Car.make.equalTo(make),
+ *                                    _Car.price.lessThan(maxPrice)),
+ *                       Order.by(_Car.price.asc()));
+ * </pre>
+ * <p>See the section <em>Restrictions</em> of the specification for the translation of a {@code Restriction} to a
+ * query.
  * </p>
  * <p>There is no specific naming convention for methods annotated with {@code @Find}; they may be named arbitrarily,
  * and their names do not carry any semantic meaning defined by the Jakarta Data specification.
@@ -62,11 +87,30 @@ import java.lang.annotation.Target;
  *     <li>an entity array type {@code E[]},
  *     <li>{@code List<E>},</li>
  *     <li>{@code Stream<E>}, or</li>
- *     <li>{@code Page<E>} or {@code CursoredPage<E>}.</li>
+ *     <li>{@code Page<E>} or {@code CursoredPage<E>}, or</li>
+ *     <li>{@code Map<K, E>}, where {@code K} is the type of the unique identifier attribute, when the method has
+ *         a parameter of type {@code Iterable<K>} that is annotated {@code @By(ID)}, in which case the map
+ *         iterates its entries in the order in which their identifiers are first supplied,</li>
  * </ul>
+ * <p>or the corresponding type for a Java record {@code R} that is a projection of the entity.</p>
  *
  * <p>An automatic query method annotated {@code Find} returns an entity instance for every record which satisfies the
  * parameter-based conditions.</p>
+ *
+ * <p>A <em>record projection</em> is a Java record type that is not an entity class and each of whose components
+ * maps to an attribute of the entity, by having the same name as the entity attribute, or by the name that is assigned
+ * by {@link By @By}. The type of each record component must be the same as the type of the entity attribute. When the
+ * method returns a record projection, the Jakarta Data provider retrieves only the mapped entity attributes and
+ * constructs each result by invoking the canonical constructor of the record, rather than retrieving entire entities.
+ * The entity type of the method is the {@linkplain #value entity class that is specified by the annotation}, or
+ * otherwise the primary entity type of the repository. For example,</p>
+ * <pre>
+ * record ProductSummary(String name, &#64;By("price") double listPrice) {}
+ *
+ * &#64;Find(Product.class)
+ * &#64;OrderBy("name")
+ * List&lt;ProductSummary&gt; summaries(&#64;By("category") String category);
+ * </pre>
  * <ul>
  * <li>If the return type of the annotated method is {@code E} or {@code Optional<E>} and more than one record satisfies
  *     the query conditions, the method must throw {@link jakarta.data.exceptions.NonUniqueResultException}.</li>
@@ -85,4 +129,15 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Find {
+    /**
+     * <p>The entity class that is queried by a method that returns a record
+     * projection of the entity rather than the entity itself.</p>
+     *
+     * <p>The default value of {@code void.class} indicates that the entity
+     * type is determined by the return type of the method or, for a record
+     * projection, is the primary entity type of the repository.</p>
+     *
+     * @return the queried entity class.
+     */
+    Class<?> value() default void.class;
 }
@@ -116,6 +116,12 @@ import java.lang.annotation.Target;
  *     <li>{@code Stream<R>}, or</li>
  *     <li>{@code Page<R>} or {@code CursoredPage<R>}.</li>
  * </ul>
+ * <p>If the query does not have a {@code SELECT} clause and the query result type {@code R} is a Java record that
+ * is not an entity class, each component of the record maps to an attribute of the queried entity, either by having
+ * the same name as the entity attribute, or by the name that is assigned by {@link By @By}. The Jakarta Data
+ * provider selects only the mapped entity attributes and constructs each result by invoking the canonical
+ * constructor of the record. See {@link Find} for the requirements on such a <em>record projection</em>.</p>
+ *
  * <p>The method returns an object for every query result.</p>
  * <ul>
  * <li>If the return type of the annotated method is {@code R} or {@code Optional<R>} and more than one record satisfies
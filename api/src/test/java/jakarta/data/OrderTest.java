@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+class OrderTest {
+
+    @Test
+    void shouldHaveSameFingerprintForSameSortCriteria() {
+        Order<Object> order1 = Order.by(Sort.desc("price"), Sort.asc("id"));
+        Order<Object> order2 = Order.by(List.of(Sort.desc("price"), Sort.asc("id")));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(order1).isEqualTo(order2);
+            soft.assertThat(order1.fingerprint()).isEqualTo(order2.fingerprint());
+        });
+    }
+
+    @Test
+    void shouldHaveDifferentFingerprintForDifferentSortCriteria() {
+        long fingerprint = Order.by(Sort.desc("price"), Sort.asc("id")).fingerprint();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Order.by(Sort.asc("price"), Sort.asc("id")).fingerprint())
+                    .isNotEqualTo(fingerprint);
+            soft.assertThat(Order.by(Sort.descIgnoreCase("price"), Sort.asc("id")).fingerprint())
+                    .isNotEqualTo(fingerprint);
+            soft.assertThat(Order.by(Sort.asc("id"), Sort.desc("price")).fingerprint())
+                    .isNotEqualTo(fingerprint);
+            soft.assertThat(Order.by(Sort.desc("pric"), Sort.asc("eid")).fingerprint())
+                    .isNotEqualTo(fingerprint);
+            soft.assertThat(Order.by(Sort.desc("price")).fingerprint())
+                    .isNotEqualTo(fingerprint);
+        });
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.internal;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.By;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttributeAccessorTest {
+
+    record Name(String first, String last) {
+    }
+
+    record Person(long ssn, Name name, int yearOfBirth) {
+    }
+
+    record Item(long id, String label) {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Id {
+    }
+
+    static class Tagged {
+        @Id
+        private final String tag;
+        private final long id;
+
+        Tagged(String tag, long id) {
+            this.tag = tag;
+            this.id = id;
+        }
+    }
+
+    static class Employee {
+        private final int badge;
+        private final boolean active;
+        String department;
+
+        Employee(int badge, boolean active, String department) {
+            this.badge = badge;
+            this.active = active;
+            this.department = department;
+        }
+
+        public int getBadge() {
+            return badge;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    @Test
+    void shouldReadRecordComponent() {
+        AttributeAccessor<Person> ssn = AttributeAccessor.of(Person.class, "ssn");
+        Person person = new Person(123456789L, new Name("Duke", "Java"), 1995);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ssn.name()).isEqualTo("ssn");
+            soft.assertThat(ssn.type()).isEqualTo(long.class);
+            soft.assertThat(ssn.get(person)).isEqualTo(123456789L);
+        });
+    }
+
+    @Test
+    void shouldReadGetterAndField() {
+        Employee emp = new Employee(42, true, "Sales");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(AttributeAccessor.of(Employee.class, "badge").get(emp)).isEqualTo(42);
+            soft.assertThat(AttributeAccessor.of(Employee.class, "active").get(emp)).isEqualTo(true);
+            soft.assertThat(AttributeAccessor.of(Employee.class, "department").get(emp)).isEqualTo("Sales");
+            soft.assertThat(AttributeAccessor.of(Employee.class, "Department").get(emp)).isEqualTo("Sales");
+        });
+    }
+
+    @Test
+    void shouldReadPrimitiveWithoutBoxing() throws Throwable {
+        AttributeAccessor<Person> year = AttributeAccessor.of(Person.class, "yearOfBirth");
+        int value = (int) year.getter().invokeExact((Object) new Person(1L, null, 2001));
+
+        assertThat(value).isEqualTo(2001);
+    }
+
+    @Test
+    void shouldReadEmbeddableAttribute() {
+        AttributeAccessor<Person> last = AttributeAccessor.of(Person.class, "name.last");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(last.type()).isEqualTo(String.class);
+            soft.assertThat(last.get(new Person(1L, new Name("Duke", "Java"), 1995))).isEqualTo("Java");
+            soft.assertThat(last.get(new Person(2L, null, 1995))).isNull();
+        });
+    }
+
+    @Test
+    void shouldReadId() {
+        AttributeAccessor<Item> id = AttributeAccessor.of(Item.class, By.ID);
+
+        assertThat(id.get(new Item(7L, "seven"))).isEqualTo(7L);
+    }
+
+    @Test
+    void shouldIgnoreUnrelatedIdAnnotation() {
+        AttributeAccessor<Tagged> id = AttributeAccessor.of(Tagged.class, By.ID);
+
+        assertThat(id.get(new Tagged("t", 8L))).isEqualTo(8L);
+    }
+
+    @Test
+    void shouldFailForUnknownAttribute() {
+        assertThatThrownBy(() -> AttributeAccessor.of(Person.class, "age"))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("age");
+    }
+}
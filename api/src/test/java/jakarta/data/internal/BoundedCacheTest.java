@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedCacheTest {
+
+    @Test
+    void shouldComputeOnlyWhenAbsent() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+        AtomicInteger computations = new AtomicInteger();
+
+        assertThat(cache.get("a", k -> computations.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.get("a", k -> computations.incrementAndGet())).isEqualTo(1);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.get("a", k -> "A");
+        cache.get("b", k -> "B");
+        cache.get("a", k -> "unused");
+        cache.get("c", k -> "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", k -> "recomputed")).isEqualTo("A");
+        assertThat(cache.get("b", k -> "recomputed")).isEqualTo("recomputed");
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximum() {
+        assertThatThrownBy(() -> new BoundedCache<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -70,6 +70,26 @@ class AttributeTest {
         });
     }
 
+    @Test
+    void shouldCreateInRestrictionFromPrimitiveArrays() {
+        BasicRestriction<String> longs = (BasicRestriction<String>) testAttribute.in(new long[] {3L, 1L, 3L, 2L});
+        BasicRestriction<String> ints = (BasicRestriction<String>) testAttribute.notIn(new int[] {7, 5});
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(longs.comparison()).isEqualTo(Operator.IN);
+            soft.assertThat(longs.value()).isEqualTo(Set.of(1L, 2L, 3L));
+            soft.assertThat(ints.comparison()).isEqualTo(Operator.NOT_IN);
+            soft.assertThat(ints.value()).isEqualTo(Set.of(5, 7));
+        });
+    }
+
+    @Test
+    void shouldThrowExceptionForEmptyPrimitiveInRestriction() {
+        assertThatThrownBy(() -> testAttribute.in(new long[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("values are required");
+    }
+
     @Test
     void shouldThrowExceptionForEmptyInRestriction() {
         assertThatThrownBy(() -> testAttribute.in())
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.impl.NumericAttributeRecord;
+import jakarta.data.metamodel.restrict.BasicRestriction;
+import jakarta.data.metamodel.restrict.CompositeRestriction;
+import jakarta.data.metamodel.restrict.Operator;
+import jakarta.data.metamodel.restrict.Restrict;
+import jakarta.data.metamodel.restrict.Restriction;
+
+import java.math.BigDecimal;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class NumericAttributeTest {
+
+    private final NumericAttribute<String> testAttribute = new NumericAttributeRecord<>("testAttribute");
+
+    @Test
+    void shouldCreateBetweenRestrictionForDoubles() {
+        Restriction<String> restriction = testAttribute.between(1.5, 9.5);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(restriction).isInstanceOf(CompositeRestriction.class);
+            CompositeRestriction<String> composite = (CompositeRestriction<String>) restriction;
+            soft.assertThat(composite.type()).isEqualTo(CompositeRestriction.Type.ALL);
+            soft.assertThat(composite.restrictions()).hasSize(2);
+            BasicRestriction<String> lower = (BasicRestriction<String>) composite.restrictions().get(0);
+            BasicRestriction<String> upper = (BasicRestriction<String>) composite.restrictions().get(1);
+            soft.assertThat(lower.comparison()).isEqualTo(Operator.GREATER_THAN_EQUAL);
+            soft.assertThat(lower.value()).isEqualTo(1.5);
+            soft.assertThat(upper.comparison()).isEqualTo(Operator.LESS_THAN_EQUAL);
+            soft.assertThat(upper.value()).isEqualTo(9.5);
+        });
+    }
+
+    @Test
+    void shouldCreateBetweenRestrictionForLongs() {
+        Restriction<String> restriction = testAttribute.between(1L, 9L);
+
+        SoftAssertions.assertSoftly(soft -> {
+            CompositeRestriction<String> composite = (CompositeRestriction<String>) restriction;
+            BasicRestriction<String> lower = (BasicRestriction<String>) composite.restrictions().get(0);
+            BasicRestriction<String> upper = (BasicRestriction<String>) composite.restrictions().get(1);
+            soft.assertThat(lower.value()).isEqualTo(1L);
+            soft.assertThat(upper.value()).isEqualTo(9L);
+        });
+    }
+
+    @Test
+    void shouldCreateEqualToRestrictionForInt() {
+        BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.equalTo(10);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(basic.attribute()).isEqualTo("testAttribute");
+            soft.assertThat(basic.comparison()).isEqualTo(Operator.EQUAL);
+            soft.assertThat(basic.value()).isInstanceOf(Integer.class).isEqualTo(10);
+        });
+    }
+
+    @Test
+    void shouldCreateGreaterThanRestrictionForLong() {
+        BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.greaterThan(10L);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(basic.attribute()).isEqualTo("testAttribute");
+            soft.assertThat(basic.comparison()).isEqualTo(Operator.GREATER_THAN);
+            soft.assertThat(basic.value()).isInstanceOf(Long.class).isEqualTo(10L);
+        });
+    }
+
+    @Test
+    void shouldCreateGreaterThanEqualRestrictionForDouble() {
+        BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.greaterThanEqual(0.25);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(basic.comparison()).isEqualTo(Operator.GREATER_THAN_EQUAL);
+            soft.assertThat(basic.value()).isInstanceOf(Double.class).isEqualTo(0.25);
+        });
+    }
+
+    @Test
+    void shouldCreateLessThanRestrictionForInt() {
+        BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.lessThan(7);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(basic.comparison()).isEqualTo(Operator.LESS_THAN);
+            soft.assertThat(basic.value()).isInstanceOf(Integer.class).isEqualTo(7);
+        });
+    }
+
+    @Test
+    void shouldCreateLessThanEqualRestrictionForLong() {
+        BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.lessThanEqual(Long.MAX_VALUE);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(basic.comparison()).isEqualTo(Operator.LESS_THAN_EQUAL);
+            soft.assertThat(basic.value()).isEqualTo(Long.MAX_VALUE);
+        });
+    }
+
+    @Test
+    void shouldCreateNotEqualToRestrictionForDouble() {
+        BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.notEqualTo(-1.0);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(basic.comparison()).isEqualTo(Operator.NOT_EQUAL);
+            soft.assertThat(basic.value()).isEqualTo(-1.0);
+        });
+    }
+
+    @Test
+    void shouldHaveSameFingerprintAsBoxedRestriction() {
+        Restriction<String> primitive = testAttribute.greaterThan(10L);
+        Restriction<String> boxed = Restrict.greaterThan(Long.valueOf(10L), "testAttribute");
+
+        assertThat(primitive.fingerprint()).isEqualTo(boxed.fingerprint());
+    }
+
+    @Test
+    void shouldKeepPrimitiveValueWhenNegated() {
+        BasicRestriction<String> negated = (BasicRestriction<String>) testAttribute.lessThan(5).negate();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(negated.comparison()).isEqualTo(Operator.GREATER_THAN_EQUAL);
+            soft.assertThat(negated.value()).isInstanceOf(Integer.class).isEqualTo(5);
+            soft.assertThat(negated.negate()).isEqualTo(testAttribute.lessThan(5));
+        });
+    }
+
+    @Test
+    void shouldSupportSortingAndGenericRestrictions() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(testAttribute.asc()).isEqualTo(Sort.asc("testAttribute"));
+            soft.assertThat(testAttribute.desc()).isEqualTo(Sort.desc("testAttribute"));
+            BasicRestriction<String> basic = (BasicRestriction<String>) testAttribute.greaterThan(BigDecimal.TEN);
+            soft.assertThat(basic.value()).isEqualTo(BigDecimal.TEN);
+        });
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PatternTest {
+
+    @Test
+    void shouldExtractPrefix() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Pattern.prefix("abc").prefix()).isEqualTo("abc");
+            soft.assertThat(Pattern.like("abc_d%").prefix()).isEqualTo("abc");
+            soft.assertThat(Pattern.like("%abc").prefix()).isEmpty();
+            soft.assertThat(Pattern.prefix("10%_off").prefix()).isEqualTo("10%_off");
+            soft.assertThat(Pattern.prefix("C:\\dir").prefix()).isEqualTo("C:\\dir");
+            soft.assertThat(Pattern.like("C:\\dir%").prefix()).isEqualTo("C:\\dir");
+            soft.assertThat(Pattern.literal("exact").prefix()).isEqualTo("exact");
+        });
+    }
+
+    @Test
+    void shouldDetermineWhetherPrefixOnly() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Pattern.prefix("abc").isPrefixOnly()).isTrue();
+            soft.assertThat(Pattern.like("abc%").isPrefixOnly()).isTrue();
+            soft.assertThat(Pattern.like("abc%%").isPrefixOnly()).isTrue();
+            soft.assertThat(Pattern.prefix("50%").isPrefixOnly()).isTrue();
+            soft.assertThat(Pattern.like("abc").isPrefixOnly()).isFalse();
+            soft.assertThat(Pattern.like("abc_%").isPrefixOnly()).isFalse();
+            soft.assertThat(Pattern.like("a%c").isPrefixOnly()).isFalse();
+            soft.assertThat(Pattern.substring("abc").isPrefixOnly()).isFalse();
+            soft.assertThat(Pattern.suffix("abc").isPrefixOnly()).isFalse();
+
+            soft.assertThat(Pattern.literal("a_c").isLiteral()).isTrue();
+            soft.assertThat(Pattern.like("a_c").isLiteral()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldComputePrefixUpperBound() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Pattern.prefix("abc").prefixUpperBound()).contains("abd");
+            soft.assertThat(Pattern.prefix("ab" + Character.MAX_VALUE).prefixUpperBound()).contains("ac");
+            soft.assertThat(Pattern.prefix(String.valueOf(Character.MAX_VALUE)).prefixUpperBound()).isEmpty();
+            soft.assertThat(Pattern.like("%abc").prefixUpperBound()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldMatchSameAsRangeOfPrefixOnlyPattern() {
+        Pattern pattern = Pattern.prefix("ab");
+        String upper = pattern.prefixUpperBound().orElseThrow();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            char[] chars = new char[random.nextInt(5)];
+            for (int c = 0; c < chars.length; c++) {
+                chars[c] = (char) ('a' + random.nextInt(4));
+            }
+            String text = new String(chars);
+            boolean inRange = text.compareTo(pattern.prefix()) >= 0 && text.compareTo(upper) < 0;
+            assertThat(pattern.matches(text)).as(text).isEqualTo(inRange);
+        }
+    }
+
+    @Test
+    void shouldMatchText() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Pattern.like("J_va%").matches("Java Guide")).isTrue();
+            soft.assertThat(Pattern.like("J_va%").matches("Jakarta")).isFalse();
+            soft.assertThat(Pattern.substring("100%").matches("a 100% match")).isTrue();
+            soft.assertThat(Pattern.substring("100%").matches("a 1000 match")).isFalse();
+            soft.assertThat(Pattern.suffix("_x").matches("a_x")).isTrue();
+            soft.assertThat(Pattern.suffix("_x").matches("ax")).isFalse();
+            soft.assertThat(Pattern.literal("java").matches("Java")).isFalse();
+            soft.assertThat(Pattern.like("%").matches(null)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldTranslateCustomWildcards() {
+        Pattern pattern = Pattern.like("a*b?c_d%e\\", '?', '*');
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(pattern.value()).isEqualTo("a%b_c\\_d\\%e\\\\");
+            soft.assertThat(pattern.matches("aXXbYc_d%e\\")).isTrue();
+            soft.assertThat(pattern.matches("aXXbYcZd%e\\")).isFalse();
+            soft.assertThat(Restrict.like("a*b?", '?', '*', "name").value()).isEqualTo("a%b_");
+        });
+    }
+
+    @Test
+    void shouldRejectSameWildcards() {
+        assertThatThrownBy(() -> Pattern.like("a*b", '*', '*'))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot use the same character (*) for both types of wildcards.");
+    }
+
+    @Test
+    void shouldCreateRestrictionsFromPattern() {
+        Pattern pattern = Pattern.like("J_va%");
+        List<TextRestriction<Object>> restrictions = List.of(Restrict.like(pattern, "title"),
+                                                             Restrict.notLike(pattern, "title"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(restrictions.get(0).comparison()).isEqualTo(Operator.LIKE);
+            soft.assertThat(restrictions.get(1).comparison()).isEqualTo(Operator.NOT_LIKE);
+            for (TextRestriction<Object> restriction : restrictions) {
+                soft.assertThat(restriction.value()).isEqualTo("J_va%");
+                soft.assertThat(restriction.isEscaped()).isTrue();
+                soft.assertThat(restriction.attribute()).isEqualTo("title");
+            }
+            soft.assertThat(Pattern.like("J_va%")).isEqualTo(pattern).hasSameHashCodeAs(pattern);
+        });
+    }
+}
@@ -137,6 +137,26 @@ class RestrictTest {
         });
     }
 
+    @Test
+    void shouldCreateMatchesRestriction() {
+        TextRestriction<String> restriction = Restrict.matches("jakarta \"data access\"", "attributeName");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(restriction.attribute()).isEqualTo("attributeName");
+            soft.assertThat(restriction.comparison()).isEqualTo(Operator.MATCHES);
+            soft.assertThat(restriction.value()).isEqualTo("jakarta \"data access\"");
+            soft.assertThat(restriction.isCaseSensitive()).isFalse();
+            soft.assertThat(restriction.negate().comparison()).isEqualTo(Operator.NOT_MATCHES);
+            soft.assertThat(restriction.negate().negate()).isEqualTo(restriction);
+        });
+    }
+
+    @Test
+    void shouldRejectMatchesWithoutWords() {
+        assertThatThrownBy(() -> Restrict.matches(" \"\" - ", "attributeName"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldEscapeToLikePatternCorrectly() {
         String result = Restrict.endsWith("test_value", "attributeName").value();
@@ -150,4 +170,56 @@ class RestrictTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Cannot use the same character (_) for both types of wildcards.");
     }
+
+    @Test
+    void shouldKeepWrapperTypeOfNarrowPrimitives() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(((BasicRestriction<?>) Restrict.greaterThan('a', "thisCharacter")).value())
+                    .isEqualTo('a');
+            soft.assertThat(((BasicRestriction<?>) Restrict.equalTo(0.1f, "price")).value())
+                    .isEqualTo(0.1f);
+            soft.assertThat(((BasicRestriction<?>) Restrict.lessThanEqual((short) 7, "pages")).value())
+                    .isEqualTo((short) 7);
+            soft.assertThat(((BasicRestriction<?>) Restrict.notEqualTo((byte) 1, "flags")).value())
+                    .isEqualTo((byte) 1);
+            CompositeRestriction<?> between = (CompositeRestriction<?>) Restrict.between('a', 'z', "thisCharacter");
+            soft.assertThat(((BasicRestriction<?>) between.restrictions().get(0)).value()).isEqualTo('a');
+            soft.assertThat(((BasicRestriction<?>) between.restrictions().get(1)).value()).isEqualTo('z');
+        });
+    }
+
+    @Test
+    void shouldEqualBoxedRestrictionForPrimitiveValue() {
+        Restriction<String> primitive = Restrict.equalTo(5, "id");
+        Restriction<String> boxed = Restrict.equalTo((Object) 5, "id");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(primitive).isEqualTo(boxed);
+            soft.assertThat(boxed).isEqualTo(primitive);
+            soft.assertThat(primitive.hashCode()).isEqualTo(boxed.hashCode());
+            soft.assertThat(primitive).isNotEqualTo(Restrict.equalTo(5L, "id"));
+            soft.assertThat(primitive).isNotEqualTo(Restrict.equalTo((Object) 5L, "id"));
+            soft.assertThat(Restrict.greaterThan(2.5, "price"))
+                    .isEqualTo(Restrict.greaterThan(Double.valueOf(2.5), "price"));
+        });
+    }
+
+    @Test
+    void shouldExposePrimitiveValue() {
+        NumericRestriction<String> ints = Restrict.lessThan(7, "pages");
+        NumericRestriction<String> longs = Restrict.greaterThanEqual(1L << 40, "id");
+        NumericRestriction<String> doubles = Restrict.notEqualTo(2.75, "price");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ints.valueType()).isEqualTo(int.class);
+            soft.assertThat(ints.intValue()).isEqualTo(7);
+            soft.assertThat(ints.negate().longValue()).isEqualTo(7L);
+            soft.assertThat(longs.valueType()).isEqualTo(long.class);
+            soft.assertThat(longs.longValue()).isEqualTo(1L << 40);
+            soft.assertThat(longs.intValue()).isEqualTo((int) (1L << 40));
+            soft.assertThat(doubles.valueType()).isEqualTo(double.class);
+            soft.assertThat(doubles.doubleValue()).isEqualTo(2.75);
+            soft.assertThat(doubles.longValue()).isEqualTo(2L);
+        });
+    }
 }
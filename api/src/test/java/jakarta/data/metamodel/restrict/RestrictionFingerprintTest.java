@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictionFingerprintTest {
+
+    @Test
+    void shouldIgnoreValues() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.equalTo(10, "pages").fingerprint())
+                    .isEqualTo(Restrict.equalTo(200L, "pages").fingerprint());
+            soft.assertThat(Restrict.startsWith("Jak", "title").fingerprint())
+                    .isEqualTo(Restrict.startsWith("Jav", "title").fingerprint());
+            soft.assertThat(Restrict.between(1, 10, "pages").fingerprint())
+                    .isEqualTo(Restrict.between(100, 1000, "pages").fingerprint());
+            soft.assertThat(Restrict.in(Set.of(1, 2), "id").fingerprint())
+                    .isEqualTo(Restrict.in(Set.of(3, 4, 5), "id").fingerprint());
+            soft.assertThat(Restrict.any(Restrict.equalTo("Duke", "author"),
+                                         Restrict.not(Restrict.lessThan(5, "pages"))).fingerprint())
+                    .isEqualTo(Restrict.any(Restrict.equalTo("Jakarta", "author"),
+                                            Restrict.not(Restrict.lessThan(9, "pages"))).fingerprint());
+        });
+    }
+
+    @Test
+    void shouldDistinguishStructure() {
+        List<Restriction<Object>> restrictions = List.of(
+                Restrict.equalTo("Duke", "author"),
+                Restrict.equalTo("Duke", "title"),
+                Restrict.notEqualTo("Duke", "author"),
+                Restrict.equalTo("Duke", "author").ignoreCase(),
+                Restrict.equalTo((Object) null, "author"),
+                Restrict.equalTo((Object) "Duke", "author"),
+                Restrict.like("Du%", "author"),
+                Restrict.startsWith("Du", "author"),
+                Restrict.all(Restrict.equalTo("Duke", "author"), Restrict.greaterThan(5, "pages")),
+                Restrict.any(Restrict.equalTo("Duke", "author"), Restrict.greaterThan(5, "pages")),
+                Restrict.all(Restrict.greaterThan(5, "pages"), Restrict.equalTo("Duke", "author")),
+                Restrict.not(Restrict.all(Restrict.equalTo("Duke", "author"), Restrict.greaterThan(5, "pages"))),
+                Restrict.all(Restrict.all(Restrict.equalTo("Duke", "author")), Restrict.greaterThan(5, "pages")),
+                Restrict.all(Restrict.equalTo("Duke", "author")));
+
+        Set<Long> fingerprints = new HashSet<>();
+        restrictions.forEach(r -> fingerprints.add(r.fingerprint()));
+
+        assertThat(fingerprints).hasSameSizeAs(restrictions);
+    }
+
+    @Test
+    void shouldComputeFingerprintConsistentWithDefault() {
+        Restriction<Object> composite = Restrict.any(Restrict.equalTo("Duke", "author").ignoreCase(),
+                                                     Restrict.all(Restrict.lessThan(5, "pages"),
+                                                                  Restrict.notLike("J%", "title")));
+        Restriction<Object> custom = new CustomRestriction();
+        Restriction<Object> otherCustom = new CustomRestriction();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(composite.fingerprint()).isEqualTo(RestrictionFingerprint.of(composite));
+            soft.assertThat(composite.negate().fingerprint())
+                    .isEqualTo(RestrictionFingerprint.of(composite.negate()));
+            soft.assertThat(custom.fingerprint()).isEqualTo(RestrictionFingerprint.of(custom));
+            soft.assertThat(custom.fingerprint()).isEqualTo(otherCustom.fingerprint());
+        });
+    }
+
+    @Test
+    void shouldExcludeFingerprintFromToString() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.equalTo("Duke", "author").toString()).doesNotContain("fingerprint");
+            soft.assertThat(Restrict.equalTo((Object) 5, "pages").toString()).doesNotContain("fingerprint");
+            soft.assertThat(Restrict.all(Restrict.equalTo("Duke", "author")).toString())
+                    .doesNotContain("fingerprint");
+        });
+    }
+
+    private static final class CustomRestriction implements Restriction<Object> {
+        @Override
+        public Restriction<Object> negate() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestrictionNormalizerTest {
+
+    record Person(long id, String name, int age) {
+    }
+
+    @Test
+    void shouldFlattenNestedComposites() {
+        Restriction<Person> nested = Restrict.all(Restrict.all(Restrict.equalTo("Duke", "name"),
+                                                               Restrict.greaterThan(20, "age")),
+                                                  Restrict.all(Restrict.lessThan(100L, "id")));
+
+        Restriction<Person> normalized = Restrict.normalize(nested);
+
+        assertThat(normalized).isEqualTo(Restrict.all(Restrict.equalTo("Duke", "name"),
+                                                      Restrict.greaterThan(20, "age"),
+                                                      Restrict.lessThan(100L, "id")));
+    }
+
+    @Test
+    void shouldPushNegationDown() {
+        Restriction<Person> negated = Restrict.not(Restrict.all(Restrict.equalTo("Duke", "name"),
+                                                                Restrict.any(Restrict.greaterThan(20, "age"),
+                                                                             Restrict.lessThan(5L, "id"))));
+
+        Restriction<Person> normalized = Restrict.normalize(negated);
+
+        assertThat(normalized).isEqualTo(Restrict.any(Restrict.notEqualTo("Duke", "name"),
+                                                      Restrict.all(Restrict.lessThanEqual(20, "age"),
+                                                                   Restrict.greaterThanEqual(5L, "id"))));
+    }
+
+    @Test
+    void shouldCancelDoubleNegation() {
+        Restriction<Person> twiceNegated = Restrict.not(Restrict.not(
+                Restrict.any(Restrict.equalTo(1L, "id"), Restrict.equalTo("Duke", "name"))));
+
+        assertThat(Restrict.normalize(twiceNegated))
+                .isEqualTo(Restrict.any(Restrict.equalTo(1L, "id"), Restrict.equalTo("Duke", "name")));
+    }
+
+    @Test
+    void shouldMergeRangeBounds() {
+        Restriction<Person> ranges = Restrict.all(Restrict.between(10, 60, "age"),
+                                                  Restrict.greaterThan(18, "age"),
+                                                  Restrict.lessThanEqual(65, "age"),
+                                                  Restrict.lessThan(60, "age"));
+        Restriction<Person> either = Restrict.any(Restrict.greaterThan(18, "age"),
+                                                  Restrict.greaterThanEqual(18, "age"),
+                                                  Restrict.greaterThan(30, "age"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.normalize(ranges))
+                    .isEqualTo(Restrict.all(Restrict.greaterThan(18, "age"), Restrict.lessThan(60, "age")));
+            soft.assertThat(Restrict.normalize(either))
+                    .isEqualTo(Restrict.greaterThanEqual(18, "age"));
+        });
+    }
+
+    @Test
+    void shouldRemoveDuplicates() {
+        Restriction<Person> duplicates = Restrict.any(Restrict.startsWith("Du", "name"),
+                                                      Restrict.startsWith("Du", "name"),
+                                                      Restrict.greaterThan(20, "age"));
+
+        assertThat(Restrict.normalize(duplicates))
+                .isEqualTo(Restrict.any(Restrict.startsWith("Du", "name"), Restrict.greaterThan(20, "age")));
+    }
+
+    @Test
+    void shouldFoldEqualityIntoIn() {
+        Restriction<Person> equalities = Restrict.any(Restrict.equalTo(1L, "id"),
+                                                      Restrict.equalTo("Duke", "name"),
+                                                      Restrict.equalTo(2L, "id"),
+                                                      Restrict.in(Set.of(3L), "id"));
+        Restriction<Person> inequalities = Restrict.not(equalities);
+
+        Restriction<Person> in = Restrict.normalize(equalities);
+        Restriction<Person> notIn = Restrict.normalize(inequalities);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(in).isInstanceOf(CompositeRestriction.class);
+            List<Restriction<Person>> terms = ((CompositeRestriction<Person>) in).restrictions();
+            soft.assertThat(terms).hasSize(2);
+            BasicRestriction<Person> ids = (BasicRestriction<Person>) terms.get(0);
+            soft.assertThat(ids.comparison()).isEqualTo(Operator.IN);
+            soft.assertThat(new ArrayList<Object>((Set<?>) ids.value())).containsExactly(1L, 2L, 3L);
+            soft.assertThat(terms.get(1)).isEqualTo(Restrict.equalTo("Duke", "name"));
+
+            List<Restriction<Person>> negatedTerms = ((CompositeRestriction<Person>) notIn).restrictions();
+            soft.assertThat(((CompositeRestriction<Person>) notIn).type()).isEqualTo(CompositeRestriction.Type.ALL);
+            soft.assertThat(((BasicRestriction<Person>) negatedTerms.get(0)).comparison()).isEqualTo(Operator.NOT_IN);
+        });
+    }
+
+    @Test
+    void shouldNotFoldCaseInsensitiveText() {
+        Restriction<Person> anyCase = Restrict.any(Restrict.<Person>equalTo("duke", "name").ignoreCase(),
+                                                   Restrict.<Person>equalTo("java", "name").ignoreCase());
+
+        assertThat(Restrict.normalize(anyCase)).isEqualTo(anyCase);
+    }
+
+    @Test
+    void shouldPreserveMeaning() {
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            people.add(new Person(i, i % 3 == 0 ? "Duke" : i % 3 == 1 ? "Java" : null, i % 90));
+        }
+        Restriction<Person> restriction = Restrict.not(Restrict.any(
+                Restrict.all(Restrict.between(20, 70, "age"), Restrict.greaterThanEqual(30, "age")),
+                Restrict.any(Restrict.equalTo(5L, "id"), Restrict.equalTo(7L, "id")),
+                Restrict.not(Restrict.all(Restrict.equalTo("Duke", "name"), Restrict.lessThan(150L, "id"))),
+                Restrict.any(Restrict.equalTo(9L, "id"), Restrict.contains("av", "name"))));
+
+        Predicate<Person> original = RestrictionPredicate.of(Person.class, restriction);
+        Predicate<Person> normalized = RestrictionPredicate.of(Person.class, Restrict.normalize(restriction));
+
+        assertThat(people.stream().filter(normalized).toList())
+                .isNotEmpty()
+                .containsExactlyElementsOf(people.stream().filter(original).toList());
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.data.exceptions.MappingException;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestrictionPredicateTest {
+
+    record Book(long id, String title, String author, Double price, int pages) {
+    }
+
+    private static final Book JAKARTA = new Book(1L, "Jakarta EE 11 in 100% Detail", "Duke", 45.0, 500);
+    private static final Book JAVA = new Book(2L, "Learning_Java", "duke", 29.99, 320);
+    private static final Book DRAFT = new Book(3L, "Untitled", null, null, 10);
+
+    private static List<Book> matching(Restriction<Book> restriction) {
+        Predicate<Book> predicate = RestrictionPredicate.of(Book.class, restriction);
+        return List.of(JAKARTA, JAVA, DRAFT).stream().filter(predicate).toList();
+    }
+
+    @Test
+    void shouldEvaluateComparisons() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.equalTo(2, "id"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.notEqualTo(2L, "id"))).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.greaterThan(320, "pages"))).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.greaterThanEqual(320, "pages"))).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.lessThan(30.0, "price"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.lessThanEqual(45, "price"))).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.between(100, 400, "pages"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.lessThan(299.5, "pages"))).containsExactly(DRAFT);
+            soft.assertThat(matching(Restrict.equalTo(new BigDecimal("45.00"), "price"))).containsExactly(JAKARTA);
+        });
+    }
+
+    @Test
+    void shouldEvaluateNullComparisons() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.equalTo(null, "author"))).containsExactly(DRAFT);
+            soft.assertThat(matching(Restrict.notEqualTo(null, "author"))).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.equalTo(null, "pages"))).isEmpty();
+            // comparisons with a null attribute value do not match, nor do their negations
+            soft.assertThat(matching(Restrict.greaterThan(0.0, "price"))).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.not(Restrict.greaterThan(0.0, "price")))).isEmpty();
+            soft.assertThat(matching(Restrict.not(Restrict.all(Restrict.greaterThan(0.0, "price"),
+                                                               Restrict.lessThan(40.0, "price")))))
+                    .containsExactly(JAKARTA);
+        });
+    }
+
+    @Test
+    void shouldEvaluateIn() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.in(Set.of(1, 3L), "id"))).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.notIn(Set.of(1, 3L), "id"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.in(Set.of(29.99, 45), "price"))).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.notIn(Set.of("Duke"), "author"))).containsExactly(JAVA);
+        });
+    }
+
+    @Test
+    void shouldEvaluateLargeInFromPrimitiveArrays() {
+        long[] evens = new long[70_000];
+        int[] odds = new int[70_000];
+        Set<Integer> boxedOdds = new HashSet<>();
+        for (int i = 0; i < evens.length; i++) {
+            evens[i] = 2L * i;
+            odds[i] = 2 * i + 1;
+            boxedOdds.add(odds[i]);
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.in(evens, "id"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.notIn(evens, "id"))).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.in(odds, "id"))).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.in(evens, "pages"))).containsExactly(JAKARTA, JAVA, DRAFT);
+            soft.assertThat(matching(Restrict.in(odds, "price"))).containsExactly(JAKARTA);
+            Set<?> values = (Set<?>) ((BasicRestriction<?>) Restrict.in(odds, "id")).value();
+            soft.assertThat(values).hasSize(70_000);
+            soft.assertThat(values.contains(65_537)).isTrue();
+            soft.assertThat(values.contains(65_537L)).isFalse();
+            soft.assertThat(values).isEqualTo(boxedOdds);
+            soft.assertThat(boxedOdds).isEqualTo(values);
+            soft.assertThat(values.hashCode()).isEqualTo(boxedOdds.hashCode());
+            Set<?> longValues = (Set<?>) ((BasicRestriction<?>) Restrict.in(evens, "id")).value();
+            soft.assertThat(longValues.contains(65_536L)).isTrue();
+            soft.assertThat(longValues.contains(65_536)).isFalse();
+            soft.assertThat(values.contains(65_538)).isFalse();
+            soft.assertThat(values.contains(65_537.0)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldEvaluateText() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.equalTo("DUKE", "author"))).isEmpty();
+            soft.assertThat(matching(Restrict.<Book>equalTo("DUKE", "author").ignoreCase())).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.<Book>lessThan("e", "author").ignoreCase())).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.startsWith("Learning_", "title"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.<Book>startsWith("LEARNING", "title").ignoreCase())).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.notStartsWith("Learning", "title"))).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.<Book>endsWith("detail", "title").ignoreCase())).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.contains("100%", "title"))).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.contains("0%D", "title"))).isEmpty();
+            soft.assertThat(matching(Restrict.notContains("_", "title"))).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.notContains("x", "author"))).containsExactly(JAKARTA, JAVA);
+        });
+    }
+
+    @Test
+    void shouldEvaluateLikePatterns() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.like("%EE 1_ in%", "title"))).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.like("Learning_Java", "title"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.like("Learning%", "title"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.like("%n%a%", "title"))).containsExactly(JAKARTA, JAVA);
+            soft.assertThat(matching(Restrict.<Book>like("u%T%", "title").ignoreCase())).containsExactly(DRAFT);
+            soft.assertThat(matching(Restrict.notLike("%a%", "title"))).containsExactly(DRAFT);
+            soft.assertThat(matching(Restrict.like("%", "author"))).containsExactly(JAKARTA, JAVA);
+        });
+    }
+
+    @Test
+    void shouldEvaluateFullTextMatches() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(Restrict.matches("jakarta", "title"))).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.matches("DETAIL  ee", "title"))).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.matches("\"ee 11\" detail", "title"))).containsExactly(JAKARTA);
+            soft.assertThat(matching(Restrict.matches("\"11 ee\"", "title"))).isEmpty();
+            soft.assertThat(matching(Restrict.matches("java", "title"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.matches("\"learning java\"", "title"))).containsExactly(JAVA);
+            soft.assertThat(matching(Restrict.matches("dit", "title"))).isEmpty();
+            soft.assertThat(matching(Restrict.<Book>matches("java", "title").negate())).containsExactly(JAKARTA, DRAFT);
+            soft.assertThat(matching(Restrict.<Book>matches("duke", "author").negate())).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldEvaluateComposites() {
+        Restriction<Book> cheapOrShort = Restrict.any(Restrict.lessThan(30.0, "price"),
+                                                      Restrict.lessThan(100, "pages"));
+        Restriction<Book> dukeAndLong = Restrict.all(Restrict.<Book>equalTo("duke", "author").ignoreCase(),
+                                                     Restrict.greaterThan(400, "pages"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(cheapOrShort)).containsExactly(JAVA, DRAFT);
+            soft.assertThat(matching(cheapOrShort.negate())).containsExactly(JAKARTA);
+            soft.assertThat(matching(dukeAndLong)).containsExactly(JAKARTA);
+            soft.assertThat(matching(dukeAndLong.negate())).containsExactly(JAVA, DRAFT);
+            soft.assertThat(matching(Restrict.any(cheapOrShort, dukeAndLong))).containsExactly(JAKARTA, JAVA, DRAFT);
+        });
+    }
+
+    @Test
+    void shouldEvaluateCustomRestrictions() {
+        BasicRestriction<Book> custom = new BasicRestriction<>() {
+            @Override
+            public String attribute() {
+                return "pages";
+            }
+
+            @Override
+            public Operator comparison() {
+                return Operator.LESS_THAN;
+            }
+
+            @Override
+            public Object value() {
+                return 400;
+            }
+
+            @Override
+            public BasicRestriction<Book> negate() {
+                return Restrict.greaterThanEqual(400, "pages");
+            }
+        };
+        Restriction<Book> unknown = new Restriction<>() {
+            @Override
+            public Restriction<Book> negate() {
+                return this;
+            }
+        };
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matching(custom)).containsExactly(JAVA, DRAFT);
+            soft.assertThat(matching(Restrict.all(custom, Restrict.greaterThan(100, "pages"))))
+                    .containsExactly(JAVA);
+            soft.assertThatThrownBy(() -> RestrictionPredicate.of(Book.class, unknown))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
+
+    @Test
+    void shouldRetainRestriction() {
+        Restriction<Book> restriction = Restrict.equalTo(1L, "id");
+        assertThat(RestrictionPredicate.of(Book.class, restriction).restriction()).isSameAs(restriction);
+    }
+
+    @Test
+    void shouldFailForUnknownAttribute() {
+        assertThatThrownBy(() -> RestrictionPredicate.of(Book.class, Restrict.equalTo("x", "isbn")))
+                .isInstanceOf(MappingException.class);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.restrict;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestrictionVisitorTest {
+
+    /**
+     * Translates a restriction to a JDQL condition in a single pass,
+     * appending to one StringBuilder.
+     */
+    static class JDQLTranslator implements RestrictionVisitor<Object, StringBuilder> {
+        final StringBuilder jdql = new StringBuilder();
+        int params;
+
+        @Override
+        public StringBuilder visitBasic(BasicRestriction<Object> restriction) {
+            return jdql.append(restriction.attribute())
+                    .append(operator(restriction.comparison()))
+                    .append('?')
+                    .append(++params);
+        }
+
+        @Override
+        public StringBuilder visitText(TextRestriction<Object> restriction) {
+            if (restriction.isCaseSensitive()) {
+                return visitBasic(restriction);
+            }
+            return jdql.append("LOWER(")
+                    .append(restriction.attribute())
+                    .append(')')
+                    .append(operator(restriction.comparison()))
+                    .append("LOWER(?")
+                    .append(++params)
+                    .append(')');
+        }
+
+        @Override
+        public StringBuilder visitComposite(CompositeRestriction<Object> restriction) {
+            if (restriction.isNegated()) {
+                jdql.append("NOT ");
+            }
+            jdql.append('(');
+            String separator = restriction.type() == CompositeRestriction.Type.ALL ? " AND " : " OR ";
+            boolean first = true;
+            for (Restriction<Object> r : restriction.restrictions()) {
+                if (!first) {
+                    jdql.append(separator);
+                }
+                first = false;
+                r.accept(this);
+            }
+            return jdql.append(')');
+        }
+    }
+
+    /**
+     * Translates a restriction with type checks and casts,
+     * building intermediate lists of strings.
+     */
+    static class NaiveTranslator {
+        int params;
+
+        String translate(Restriction<?> restriction) {
+            if (restriction instanceof CompositeRestriction<?> composite) {
+                List<String> terms = new ArrayList<>();
+                for (Restriction<?> r : composite.restrictions()) {
+                    terms.add(translate(r));
+                }
+                String separator = composite.type() == CompositeRestriction.Type.ALL ? " AND " : " OR ";
+                return (composite.isNegated() ? "NOT " : "") + "(" + String.join(separator, terms) + ")";
+            } else if (restriction instanceof TextRestriction<?> text && !text.isCaseSensitive()) {
+                return "LOWER(" + text.attribute() + ")" + operator(text.comparison()) + "LOWER(?" + ++params + ")";
+            } else {
+                BasicRestriction<?> basic = (BasicRestriction<?>) restriction;
+                return basic.attribute() + operator(basic.comparison()) + "?" + ++params;
+            }
+        }
+    }
+
+    static String operator(Operator op) {
+        return switch (op) {
+            case EQUAL -> "=";
+            case GREATER_THAN -> ">";
+            case GREATER_THAN_EQUAL -> ">=";
+            case IN -> " IN ";
+            case LESS_THAN -> "<";
+            case LESS_THAN_EQUAL -> "<=";
+            case LIKE -> " LIKE ";
+            case NOT_EQUAL -> "<>";
+            case NOT_IN -> " NOT IN ";
+            case MATCHES -> " MATCHES ";
+            case NOT_LIKE -> " NOT LIKE ";
+            case NOT_MATCHES -> " NOT MATCHES ";
+        };
+    }
+
+    /**
+     * Builds a tree of the given depth in which each level combines
+     * several basic restrictions with the next level.
+     */
+    static Restriction<Object> deepTree(int depth) {
+        Restriction<Object> tree = Restrict.equalTo("leaf", "name");
+        for (int level = 0; level < depth; level++) {
+            Restriction<Object> term = level % 3 == 0
+                    ? Restrict.not(Restrict.any(Restrict.greaterThan(level, "age"),
+                                                Restrict.<Object>startsWith("N" + level, "name").ignoreCase()))
+                    : Restrict.in(Set.of(level), "id");
+            tree = level % 2 == 0
+                    ? Restrict.all(Restrict.lessThan(level, "age"), term, tree)
+                    : Restrict.any(tree, Restrict.notEqualTo("x" + level, "code"), term);
+        }
+        return tree;
+    }
+
+    @Test
+    void shouldDispatchByKind() {
+        RestrictionVisitor<Object, String> kind = new RestrictionVisitor<>() {
+            @Override
+            public String visitBasic(BasicRestriction<Object> restriction) {
+                return "basic";
+            }
+
+            @Override
+            public String visitComposite(CompositeRestriction<Object> restriction) {
+                return "composite";
+            }
+
+            @Override
+            public String visitText(TextRestriction<Object> restriction) {
+                return "text";
+            }
+        };
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Restrict.equalTo((Object) 10, "pages").accept(kind)).isEqualTo("basic");
+            soft.assertThat(Restrict.equalTo("Duke", "author").accept(kind)).isEqualTo("text");
+            soft.assertThat(Restrict.startsWith("Du", "author").negate().accept(kind)).isEqualTo("text");
+            soft.assertThat(Restrict.between(1, 10, "pages").accept(kind)).isEqualTo("composite");
+        });
+    }
+
+    @Test
+    void shouldVisitTextAsBasicByDefault() {
+        RestrictionVisitor<Object, String> attribute = new RestrictionVisitor<>() {
+            @Override
+            public String visitBasic(BasicRestriction<Object> restriction) {
+                return restriction.attribute();
+            }
+
+            @Override
+            public String visitComposite(CompositeRestriction<Object> restriction) {
+                return null;
+            }
+        };
+
+        assertThat(Restrict.contains("Du", "author").accept(attribute)).isEqualTo("author");
+    }
+
+    @Test
+    void shouldRejectUnknownRestriction() {
+        Restriction<Object> custom = new Restriction<>() {
+            @Override
+            public Restriction<Object> negate() {
+                return this;
+            }
+        };
+
+        assertThatThrownBy(() -> custom.accept(new JDQLTranslator()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldTranslateDeepTreeLikeNaiveTranslator() {
+        // each level adds at least two basic restrictions
+        Restriction<Object> tree = deepTree(120);
+
+        JDQLTranslator visitor = new JDQLTranslator();
+        tree.accept(visitor);
+        NaiveTranslator naive = new NaiveTranslator();
+        String expected = naive.translate(tree);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(visitor.params).isGreaterThan(240).isEqualTo(naive.params);
+            soft.assertThat(visitor.jdql.toString()).isEqualTo(expected);
+            soft.assertThat(expected).startsWith("((age<?1 AND ").contains("NOT (age>?").contains("LOWER(name) LIKE LOWER(?");
+        });
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursorCodecTest {
+
+    private static final Object[] ALL_TYPES = {
+            null,
+            true,
+            false,
+            (byte) -7,
+            (short) -300,
+            Integer.MIN_VALUE,
+            Long.MAX_VALUE,
+            Long.MIN_VALUE,
+            -0.5f,
+            Double.NaN,
+            'é',
+            "",
+            "naïve € 😀",
+            new BigInteger("-123456789012345678901234567890"),
+            new BigDecimal("12345.6789"),
+            new BigDecimal("1E+10"),
+            UUID.fromString("01234567-89ab-cdef-0123-456789abcdef"),
+            LocalDate.of(1969, 7, 20),
+            LocalTime.of(23, 59, 59, 999_999_999),
+            LocalDateTime.of(2025, 2, 28, 12, 30, 15, 1000),
+            Instant.ofEpochSecond(-1L, 5),
+            OffsetDateTime.of(2025, 3, 1, 8, 0, 0, 0, ZoneOffset.ofHoursMinutes(-5, -30)),
+            ZonedDateTime.of(2025, 11, 2, 1, 30, 0, 0, ZoneId.of("America/Chicago")).withLaterOffsetAtOverlap()
+    };
+
+    @Test
+    @DisplayName("Should decode the Base64 encoding of a cursor to an equal cursor")
+    void shouldRoundTripBase64() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey(ALL_TYPES);
+        String encoded = cursor.encodeBase64();
+
+        assertSoftly(softly -> {
+            softly.assertThat(encoded).matches("[A-Za-z0-9_-]+");
+            softly.assertThat(PageRequest.Cursor.decodeBase64(encoded)).isEqualTo(cursor);
+        });
+    }
+
+    @Test
+    @DisplayName("Should decode the binary encoding of a cursor to an equal cursor")
+    void shouldRoundTripBytes() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey(ALL_TYPES);
+        byte[] encoded = cursor.encode();
+        PageRequest.Cursor decoded = PageRequest.Cursor.decode(encoded);
+
+        assertSoftly(softly -> {
+            softly.assertThat(encoded).hasSize(CursorCodec.size(cursor));
+            softly.assertThat(decoded).isEqualTo(cursor);
+            for (int i = 0; i < ALL_TYPES.length; i++) {
+                if (ALL_TYPES[i] != null) {
+                    softly.assertThat(decoded.get(i)).isExactlyInstanceOf(ALL_TYPES[i].getClass()).isEqualTo(ALL_TYPES[i]);
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should encode into and decode from a direct ByteBuffer at its position")
+    void shouldRoundTripDirectByteBuffer() {
+        PageRequest.Cursor first = PageRequest.Cursor.forKey("Jakarta", 10L);
+        PageRequest.Cursor second = PageRequest.Cursor.forKey(ALL_TYPES);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        buffer.put((byte) 99);
+        first.encode(buffer);
+        second.encode(buffer);
+        buffer.flip();
+        buffer.get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.Cursor.decode(buffer)).isEqualTo(first);
+            softly.assertThat(PageRequest.Cursor.decode(buffer)).isEqualTo(second);
+            softly.assertThat(buffer.hasRemaining()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should encode small keys compactly")
+    void shouldEncodeCompactly() {
+        assertSoftly(softly -> {
+            // version, count, tag, zig-zag varint
+            softly.assertThat(PageRequest.Cursor.forKey(1L).encode())
+                    .containsExactly(CursorCodec.VERSION, 1, 6, 2);
+            softly.assertThat(PageRequest.Cursor.forKey(-1).encode())
+                    .containsExactly(CursorCodec.VERSION, 1, 5, 1);
+            softly.assertThat(PageRequest.Cursor.forKey("Smith", 42, 1234567L).encode())
+                    .hasSize(2 + 7 + 2 + 5);
+            softly.assertThat(PageRequest.Cursor.forKey(LocalDate.of(2025, 1, 1)).encode())
+                    .hasSize(2 + 4);
+        });
+    }
+
+    @Test
+    @DisplayName("Should encode strings as UTF-8")
+    void shouldEncodeStringsAsUTF8() {
+        String text = "aé€😀";
+        byte[] encoded = PageRequest.Cursor.forKey(text).encode();
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+        assertSoftly(softly -> {
+            softly.assertThat(encoded).hasSize(4 + utf8.length);
+            softly.assertThat(Arrays.copyOfRange(encoded, 4, encoded.length)).isEqualTo(utf8);
+        });
+    }
+
+    @Test
+    @DisplayName("Should replace unpaired surrogates the same as String.getBytes")
+    void shouldReplaceUnpairedSurrogates() {
+        String text = "x\uD800y\uDC00";
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey(text);
+        byte[] encoded = cursor.encode();
+
+        assertSoftly(softly -> {
+            softly.assertThat(encoded).hasSize(CursorCodec.size(cursor));
+            softly.assertThat(PageRequest.Cursor.decode(encoded).get(0)).isEqualTo("x?y?");
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject key values of types that cannot be encoded")
+    void shouldRejectUnsupportedTypes() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey("a", new Object());
+
+        assertThatIllegalArgumentException().isThrownBy(cursor::encode)
+                .withMessageContaining("java.lang.Object");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid encodings")
+    void shouldRejectInvalidEncodings() {
+        byte[] valid = PageRequest.Cursor.forKey("Jakarta Data", 10L).encode();
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 1);
+        byte[] badVersion = valid.clone();
+        badVersion[0] = 99;
+        byte[] badTag = valid.clone();
+        badTag[2] = 120;
+
+        assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(truncated))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(badVersion))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("version");
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(badTag))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(new byte[] { CursorCodec.VERSION, 0 }))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(new byte[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.decodeBase64("not base64!"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject encodings with values that are out of range")
+    void shouldRejectMalformedValues() {
+        byte v = CursorCodec.VERSION;
+        // variable length encoding of -1, which is also the zig-zag encoding of Long.MIN_VALUE
+        byte[] negativeOne = { -1, -1, -1, -1, -1, -1, -1, -1, -1, 1 };
+        byte[] negativeLength = concat(new byte[] { v, 1, 10 }, negativeOne);
+        byte[] negativeNativeLength = concat(new byte[] { v, 0 }, negativeOne);
+        byte[] emptyBigInteger = { v, 1, 11, 0 };
+        byte[] epochDayOutOfRange = concat(new byte[] { v, 1, 14 }, negativeOne);
+        byte[] nanoOfDayOutOfRange = concat(new byte[] { v, 1, 15 }, negativeOne);
+        // zig-zag encoding of Long.MAX_VALUE seconds, followed by 0 nanoseconds
+        byte[] instantOutOfRange = { v, 1, 17, -2, -1, -1, -1, -1, -1, -1, -1, -1, 1, 0 };
+
+        assertSoftly(softly -> {
+            for (byte[] encoded : List.of(negativeLength, negativeNativeLength, emptyBigInteger,
+                                          epochDayOutOfRange, nanoOfDayOutOfRange, instantOutOfRange)) {
+                softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(encoded))
+                        .isExactlyInstanceOf(IllegalArgumentException.class);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject encoded values that are out of range of their type")
+    void shouldRejectOutOfRangeValues() {
+        byte v = CursorCodec.VERSION;
+        // variable length encoding of 65536, which is the zig-zag encoding of 32768
+        byte[] beyondShort = { -128, -128, 4 };
+        // variable length encoding of 2^32, which is the zig-zag encoding of 2^31
+        byte[] beyondInt = { -128, -128, -128, -128, 16 };
+        byte[] negativeOne = { -1, -1, -1, -1, -1, -1, -1, -1, -1, 1 };
+
+        byte[] shortOutOfRange = concat(new byte[] { v, 1, 4 }, beyondShort);
+        byte[] intOutOfRange = concat(new byte[] { v, 1, 5 }, beyondInt);
+        byte[] charOutOfRange = concat(new byte[] { v, 1, 9 }, beyondShort);
+        byte[] negativeChar = concat(new byte[] { v, 1, 9 }, negativeOne);
+        byte[] scaleOutOfRange = concat(new byte[] { v, 1, 12 }, beyondInt, new byte[] { 1, 1 });
+        byte[] offsetOutOfRange = concat(new byte[] { v, 1, 18, 0, 0 }, beyondInt);
+
+        assertSoftly(softly -> {
+            for (byte[] encoded : List.of(shortOutOfRange, intOutOfRange, charOutOfRange,
+                                          negativeChar, scaleOutOfRange, offsetOutOfRange)) {
+                softly.assertThatThrownBy(() -> PageRequest.Cursor.decode(encoded))
+                        .isExactlyInstanceOf(IllegalArgumentException.class);
+            }
+            // the largest values that are in range decode to the same value
+            softly.assertThat(PageRequest.Cursor.decode(new byte[] { v, 1, 4, -2, -1, 3 }).get(0))
+                    .isEqualTo(Short.MAX_VALUE);
+            softly.assertThat(PageRequest.Cursor.decode(new byte[] { v, 1, 9, -1, -1, 3 }).get(0))
+                    .isEqualTo(Character.MAX_VALUE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should encode cursors of any implementation class")
+    void shouldEncodeCustomCursor() {
+        PageRequest.Cursor custom = new PageRequest.Cursor() {
+            @Override
+            public Object get(int index) {
+                return index == 0 ? "custom" : 7;
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+
+            @Override
+            public List<?> elements() {
+                return List.of("custom", 7);
+            }
+        };
+
+        assertThat(PageRequest.Cursor.decode(custom.encode())).isEqualTo(PageRequest.Cursor.forKey("custom", 7));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        byte[] bytes = new byte[0];
+        for (byte[] part : parts) {
+            int length = bytes.length;
+            bytes = Arrays.copyOf(bytes, length + part.length);
+            System.arraycopy(part, 0, bytes, length, part.length);
+        }
+        return bytes;
+    }
+}
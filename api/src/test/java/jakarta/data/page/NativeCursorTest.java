@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class NativeCursorTest {
+
+    @Test
+    @DisplayName("Should hold a copy of the native token and no key values")
+    void shouldCreateNativeCursor() {
+        byte[] token = { 1, 2, 3, (byte) 0xFF };
+        PageRequest.Cursor cursor = PageRequest.Cursor.forNativeToken(token);
+        token[0] = 9;
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.isNative()).isTrue();
+            softly.assertThat(cursor.isPrimitive()).isFalse();
+            softly.assertThat(cursor.size()).isEqualTo(0);
+            softly.assertThat(cursor.elements()).isEqualTo(List.of());
+            softly.assertThat(cursor.nativeToken()).containsExactly(1, 2, 3, (byte) 0xFF);
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.forNativeToken(new byte[] { 1, 2, 3, (byte) 0xFF }));
+            softly.assertThat(cursor).hasSameHashCodeAs(PageRequest.Cursor.forNativeToken(new byte[] { 1, 2, 3, (byte) 0xFF }));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forNativeToken(new byte[] { 1, 2, 3 }));
+            softly.assertThat(cursor.toString()).isEqualTo(
+                    "Cursor@" + Integer.toHexString(cursor.hashCode()) + " with native token of 4 bytes");
+        });
+        cursor.nativeToken()[0] = 9;
+        assertSoftly(softly -> softly.assertThat(cursor.nativeToken()[0]).isEqualTo((byte) 1));
+        assertThatThrownBy(() -> cursor.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> PageRequest.Cursor.forKey(1L).nativeToken())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should encode and decode a native cursor and use it in page requests")
+    void shouldEncodeAndRequestPages() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forNativeToken(new byte[] { 0, 42, -1 });
+        PageRequest next = PageRequest.ofSize(20).afterCursor(cursor);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.encode()).hasSize(6);
+            softly.assertThat(PageRequest.Cursor.decode(cursor.encode())).isEqualTo(cursor);
+            softly.assertThat(PageRequest.Cursor.decodeBase64(cursor.encodeBase64())).isEqualTo(cursor);
+            softly.assertThat(next.mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(next.cursor()).contains(cursor);
+        });
+        assertThatThrownBy(() -> PageRequest.Cursor.decode(new byte[] { 1, 0, 5, 1 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
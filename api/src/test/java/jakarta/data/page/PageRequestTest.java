@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import jakarta.data.Sort;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -95,6 +96,90 @@ class PageRequestTest {
         });
     }
 
+    @Test
+    @DisplayName("The estimated total configuration must be preserved when adding subsequent configuration.")
+    void shouldRequestEstimatedTotalConfigBePreserved() {
+        PageRequest pageRequest = PageRequest.ofPage(3).withEstimatedTotal().size(40);
+        PageRequest afterCursor = pageRequest.afterCursor(PageRequest.Cursor.forKey(100L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.ofSize(10).requestEstimatedTotal()).isEqualTo(false);
+            softly.assertThat(pageRequest.page()).isEqualTo(3L);
+            softly.assertThat(pageRequest.size()).isEqualTo(40);
+            softly.assertThat(pageRequest.requestTotal()).isEqualTo(true);
+            softly.assertThat(pageRequest.requestEstimatedTotal()).isEqualTo(true);
+            softly.assertThat(afterCursor.requestEstimatedTotal()).isEqualTo(true);
+            softly.assertThat(pageRequest.withTotal().requestTotal()).isEqualTo(true);
+            softly.assertThat(pageRequest.withTotal().requestEstimatedTotal()).isEqualTo(false);
+            softly.assertThat(pageRequest.withoutTotal().requestTotal()).isEqualTo(false);
+            softly.assertThat(pageRequest.withoutTotal().requestEstimatedTotal()).isEqualTo(false);
+            softly.assertThat(pageRequest).isNotEqualTo(PageRequest.ofPage(3).size(40));
+            softly.assertThat(pageRequest).isEqualTo(PageRequest.ofPage(3).size(40).withEstimatedTotal());
+        });
+    }
+
+    @Test
+    @DisplayName("Implementations that predate totals settings must obtain exact totals by default.")
+    void shouldDefaultTotalsSettings() {
+        PageRequest delegate = PageRequest.ofPage(2).size(5);
+        PageRequest custom = new PageRequest() {
+            @Override
+            public PageRequest afterCursor(Cursor cursor) {
+                return delegate.afterCursor(cursor);
+            }
+
+            @Override
+            public PageRequest beforeCursor(Cursor cursor) {
+                return delegate.beforeCursor(cursor);
+            }
+
+            @Override
+            public Optional<Cursor> cursor() {
+                return delegate.cursor();
+            }
+
+            @Override
+            public Mode mode() {
+                return delegate.mode();
+            }
+
+            @Override
+            public long page() {
+                return delegate.page();
+            }
+
+            @Override
+            public int size() {
+                return delegate.size();
+            }
+
+            @Override
+            public boolean requestTotal() {
+                return false;
+            }
+
+            @Override
+            public PageRequest size(int maxPageSize) {
+                return delegate.size(maxPageSize);
+            }
+
+            @Override
+            public PageRequest withoutTotal() {
+                return delegate.withoutTotal();
+            }
+
+            @Override
+            public PageRequest withTotal() {
+                return delegate.withTotal();
+            }
+        };
+
+        assertSoftly(softly -> {
+            softly.assertThat(custom.requestEstimatedTotal()).isEqualTo(false);
+            softly.assertThat(custom.withEstimatedTotal()).isEqualTo(delegate.withTotal());
+        });
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException when page is not present")
     void shouldReturnErrorWhenThereIsIllegalArgument() {
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.PageRecord;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageWalkerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    /**
+     * Page requests that have been made, in the form of the cursor key value, or 0 for the first page.
+     */
+    private final List<Long> requested = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Finds cursored pages of the numbers 1 to max, in ascending order.
+     */
+    private Function<PageRequest, CursoredPage<Long>> numbersUpTo(long max) {
+        return pageRequest -> {
+            long after = pageRequest.cursor().map(c -> c.getLong(0)).orElse(0L);
+            requested.add(after);
+            List<Long> content = LongStream.rangeClosed(after + 1, Math.min(max, after + pageRequest.size()))
+                    .boxed()
+                    .collect(Collectors.toList());
+            boolean last = content.isEmpty() || content.get(content.size() - 1) == max;
+            return CursoredPageRecord.ofLazyCursors(content, PageRequest.Cursor::forKey, -1L, pageRequest,
+                                                    after == 0L, last);
+        };
+    }
+
+    @Test
+    @DisplayName("Should stream the results of all cursored pages in order")
+    void shouldStreamAllCursoredPages() {
+        try (Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), numbersUpTo(95))) {
+            assertThat(stream.collect(Collectors.toList()))
+                    .isEqualTo(LongStream.rangeClosed(1, 95).boxed().collect(Collectors.toList()));
+        }
+        assertThat(requested).containsExactly(0L, 10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L);
+    }
+
+    @Test
+    @DisplayName("Should stream the results of all offset pages in order")
+    void shouldStreamAllOffsetPages() {
+        List<String> all = List.of("A", "B", "C", "D", "E", "F", "G");
+        Function<PageRequest, Page<String>> finder = req -> {
+            int from = (int) ((req.page() - 1) * req.size());
+            return new PageRecord<>(req, all.subList(from, Math.min(all.size(), from + req.size())), all.size());
+        };
+
+        try (Stream<String> stream = PageWalker.stream(PageRequest.ofSize(3), finder, executor, 1)) {
+            assertThat(stream.collect(Collectors.joining())).isEqualTo("ABCDEFG");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not request any page until the first result is requested")
+    void shouldBeLazy() {
+        try (Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), numbersUpTo(95), executor, 3)) {
+            Stream<Long> mapped = stream.map(n -> n * 2);
+            assertThat(requested).isEmpty();
+            assertThat(mapped.findFirst()).hasValue(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should request a page only after the previous page is consumed when not prefetching")
+    void shouldNotPrefetchWhenPrefetchIsZero() {
+        try (Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), numbersUpTo(95))) {
+            assertThat(stream.limit(10).count()).isEqualTo(10L);
+        }
+        assertThat(requested).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("Should retrieve the next pages while the current page is being processed")
+    void shouldPrefetch() throws InterruptedException {
+        CountDownLatch prefetched = new CountDownLatch(2);
+        Function<PageRequest, CursoredPage<Long>> numbers = numbersUpTo(95);
+        Function<PageRequest, CursoredPage<Long>> finder = req -> {
+            CursoredPage<Long> page = numbers.apply(req);
+            prefetched.countDown();
+            return page;
+        };
+
+        try (Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), finder, executor, 2)) {
+            List<Long> results = new CopyOnWriteArrayList<>();
+            stream.forEach(n -> {
+                if (n == 1L) {
+                    // the first and second pages are retrieved without waiting for the first to be processed
+                    try {
+                        assertThat(prefetched.await(30, TimeUnit.SECONDS)).isTrue();
+                    } catch (InterruptedException x) {
+                        throw new IllegalStateException(x);
+                    }
+                }
+                results.add(n);
+            });
+            assertThat(results).hasSize(95);
+        }
+        assertThat(requested).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Should stop retrieving pages when the stream is closed")
+    void shouldStopWhenClosed() throws InterruptedException {
+        Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), numbersUpTo(1000), executor, 2);
+        assertThat(stream.limit(15).count()).isEqualTo(15L);
+        stream.close();
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        // the 2 pages being consumed and up to 2 pages retrieved in advance
+        assertThat(requested.size()).isBetween(2, 4);
+    }
+
+    @Test
+    @DisplayName("Should stop when the stream is closed by another thread while pages are being prefetched")
+    void shouldStopWhenClosedDuringPrefetch() throws Exception {
+        CountDownLatch prefetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<PageRequest, CursoredPage<Long>> numbers = numbersUpTo(1000);
+        Function<PageRequest, CursoredPage<Long>> finder = req -> {
+            if (req.page() == 2) {
+                // blocks retrieval of the second page until the stream is closed
+                prefetching.countDown();
+                try {
+                    assertThat(release.await(30, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException x) {
+                    throw new IllegalStateException(x);
+                }
+            }
+            return numbers.apply(req);
+        };
+
+        Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), finder, executor, 3);
+        Iterator<Long> results = stream.iterator();
+        assertThat(results.next()).isEqualTo(1L);
+        assertThat(prefetching.await(30, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService closer = Executors.newSingleThreadExecutor();
+        try {
+            closer.submit(stream::close).get(30, TimeUnit.SECONDS);
+        } finally {
+            closer.shutdown();
+        }
+        release.countDown();
+
+        assertThat(results.hasNext()).isFalse();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        // the first page and the page that was being retrieved when the stream was closed
+        assertThat(requested).containsExactly(0L, 10L);
+    }
+
+    @Test
+    @DisplayName("Should raise the exception from retrieving a page when reaching its results")
+    void shouldRaiseFailure() {
+        Function<PageRequest, CursoredPage<Long>> numbers = numbersUpTo(95);
+        Function<PageRequest, CursoredPage<Long>> finder = req -> {
+            if (req.page() == 3) {
+                throw new UnsupportedOperationException("page 3");
+            }
+            return numbers.apply(req);
+        };
+        List<Long> results = new CopyOnWriteArrayList<>();
+
+        try (Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), finder, executor, 2)) {
+            assertThatThrownBy(() -> stream.forEach(results::add))
+                    .isInstanceOf(UnsupportedOperationException.class)
+                    .hasMessage("page 3");
+        }
+        assertThat(results).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("Should stream no results from an empty first page")
+    void shouldStreamEmptyPage() {
+        try (Stream<Long> stream = PageWalker.stream(PageRequest.ofSize(10), numbersUpTo(0), executor, 1)) {
+            assertThat(stream.count()).isZero();
+        }
+        assertThat(requested).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative prefetch")
+    void shouldRejectNegativePrefetch() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                PageWalker.stream(PageRequest.ofSize(10), numbersUpTo(10), executor, -1));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PrimitiveCursorTest {
+
+    @Test
+    @DisplayName("Should hold a single long key value without boxing")
+    void shouldCreateLongCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forLongKey(30L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor).isInstanceOf(PrimitiveCursor.class);
+            softly.assertThat(cursor.isPrimitive()).isTrue();
+            softly.assertThat(cursor.size()).isEqualTo(1);
+            softly.assertThat(cursor.get(0)).isEqualTo(30L);
+            softly.assertThat(cursor.getLong(0)).isEqualTo(30L);
+            softly.assertThat(cursor.elements()).isEqualTo(List.of(30L));
+            softly.assertThat(cursor.toString()).isEqualTo(
+                    "Cursor@" + Integer.toHexString(cursor.hashCode()) + " with 1 values");
+        });
+        assertThatThrownBy(() -> cursor.getInt(0)).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> cursor.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should hold int key values as Integer")
+    void shouldCreateIntCursor() {
+        PageRequest.Cursor single = PageRequest.Cursor.forIntKey(-7);
+        PageRequest.Cursor pair = PageRequest.Cursor.forIntKey(3, Integer.MAX_VALUE);
+
+        assertSoftly(softly -> {
+            softly.assertThat(single.isPrimitive()).isTrue();
+            softly.assertThat(single.get(0)).isEqualTo(-7);
+            softly.assertThat(single.getInt(0)).isEqualTo(-7);
+            softly.assertThat(single.getLong(0)).isEqualTo(-7L);
+            softly.assertThat(pair.size()).isEqualTo(2);
+            softly.assertThat(pair.elements()).isEqualTo(List.of(3, Integer.MAX_VALUE));
+            softly.assertThat(pair.getInt(1)).isEqualTo(Integer.MAX_VALUE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should equal the cursor for the same boxed key values and have the same hash code")
+    void shouldEqualBoxedCursor() {
+        PageRequest.Cursor longs = PageRequest.Cursor.forLongKey(6L, 46L);
+        PageRequest.Cursor boxedLongs = PageRequest.Cursor.forKey(new Object[] { 6L, 46L });
+        PageRequest.Cursor ints = PageRequest.Cursor.forIntKey(6, 46);
+        PageRequest.Cursor boxedInts = PageRequest.Cursor.forKey(new Object[] { 6, 46 });
+
+        assertSoftly(softly -> {
+            softly.assertThat(boxedLongs).isInstanceOf(PageRequestCursor.class);
+            softly.assertThat(longs).isEqualTo(boxedLongs);
+            softly.assertThat(boxedLongs).isEqualTo(longs);
+            softly.assertThat(longs.hashCode()).isEqualTo(boxedLongs.hashCode());
+            softly.assertThat(ints).isEqualTo(boxedInts);
+            softly.assertThat(boxedInts).isEqualTo(ints);
+            softly.assertThat(ints.hashCode()).isEqualTo(boxedInts.hashCode());
+            softly.assertThat(ints).isNotEqualTo(longs);
+            softly.assertThat(boxedInts).isNotEqualTo(longs);
+            softly.assertThat(longs).isNotEqualTo(PageRequest.Cursor.forLongKey(6L, 47L));
+            softly.assertThat(longs).isNotEqualTo(PageRequest.Cursor.forLongKey(6L));
+            softly.assertThat(longs).isNotEqualTo(PageRequest.Cursor.forKey(6L, 46L, 0L));
+            softly.assertThat(PageRequest.Cursor.forLongKey(Long.MIN_VALUE).hashCode())
+                    .isEqualTo(PageRequest.Cursor.forKey(new Object[] { Long.MIN_VALUE }).hashCode());
+        });
+    }
+
+    @Test
+    @DisplayName("Should obtain primitive key values from boxed cursors")
+    void shouldGetPrimitivesFromBoxedCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKey("text", 5, 9L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.isPrimitive()).isFalse();
+            softly.assertThat(cursor.getInt(1)).isEqualTo(5);
+            softly.assertThat(cursor.getLong(1)).isEqualTo(5L);
+            softly.assertThat(cursor.getLong(2)).isEqualTo(9L);
+        });
+        assertThatThrownBy(() -> cursor.getLong(0)).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> cursor.getInt(2)).isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    @DisplayName("Should encode and decode primitive cursors")
+    void shouldRoundTripEncoding() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forLongKey(1L, -2L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.Cursor.decode(cursor.encode())).isEqualTo(cursor);
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.decode(cursor.encode()));
+        });
+    }
+
+    @Test
+    @DisplayName("Should retain the types of values that are supplied to forKey")
+    void shouldRetainTypesForVarargs() {
+        PageRequest.Cursor character = PageRequest.Cursor.forKey('x');
+        PageRequest.Cursor mixed = PageRequest.Cursor.forKey(1, 2L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(character.isPrimitive()).isFalse();
+            softly.assertThat(character.get(0)).isEqualTo('x');
+            softly.assertThat(mixed.get(0)).isEqualTo(1);
+            softly.assertThat(mixed.get(1)).isEqualTo(2L);
+            softly.assertThat(PageRequest.Cursor.forKey(30L)).isEqualTo(PageRequest.Cursor.forLongKey(30L));
+        });
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursoredPageRecordTest {
+
+    @Test
+    @DisplayName("Cursors are built from the key extractor only when requested, and are then retained.")
+    void shouldBuildCursorsLazily() {
+        List<String> extracted = new ArrayList<>();
+        Function<String, PageRequest.Cursor> keyExtractor = s -> {
+            extracted.add(s);
+            return PageRequest.Cursor.forKey(s, s.length());
+        };
+
+        PageRequest page2Request = PageRequest.ofPage(2).size(4);
+        List<String> content = List.of("E", "FF", "GGG", "HHHH");
+        CursoredPageRecord<String> page2 = CursoredPageRecord.ofLazyCursors(content, keyExtractor, -1L, page2Request,
+                                                                             false, false);
+
+        assertSoftly(softly -> {
+            // only the boundary cursors for the next and previous page requests
+            softly.assertThat(extracted).containsExactly("HHHH", "E");
+            softly.assertThat(page2.nextPageRequest())
+                    .isEqualTo(PageRequest.afterCursor(PageRequest.Cursor.forKey("HHHH", 4), 3, 4, page2Request.requestTotal()));
+            softly.assertThat(page2.previousPageRequest())
+                    .isEqualTo(PageRequest.beforeCursor(PageRequest.Cursor.forKey("E", 1), 1, 4, page2Request.requestTotal()));
+            softly.assertThat(page2.cursor(2)).isEqualTo(PageRequest.Cursor.forKey("GGG", 3));
+            softly.assertThat(page2.cursor(2)).isSameAs(page2.cursor(2));
+            softly.assertThat(page2.cursor(0)).isSameAs(page2.cursors().get(0));
+            softly.assertThat(extracted).containsExactly("HHHH", "E", "GGG");
+            softly.assertThat(page2.cursors()).hasSize(4);
+        });
+
+        // comparing and printing the page does not build the remaining cursor
+        CursoredPageRecord<String> same = CursoredPageRecord.ofLazyCursors(content, keyExtractor, -1L, page2Request,
+                                                                            false, false);
+        assertSoftly(softly -> {
+            softly.assertThat(page2).isEqualTo(same);
+            softly.assertThat(page2.hashCode()).isEqualTo(same.hashCode());
+            softly.assertThat(page2.toString()).contains("HHHH").doesNotContain("cursors");
+            softly.assertThat(extracted).containsExactly("HHHH", "E", "GGG", "HHHH", "E");
+        });
+        assertThatThrownBy(() -> page2.cursor(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> page2.cursors().set(0, null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("A page built lazily equals the page built from a list of cursors.")
+    void shouldEqualEagerlyBuiltPage() {
+        PageRequest pageRequest = PageRequest.ofSize(3);
+        List<Long> content = List.of(10L, 20L, 30L);
+        List<PageRequest.Cursor> cursors = List.of(PageRequest.Cursor.forKey(10L),
+                                                   PageRequest.Cursor.forKey(20L),
+                                                   PageRequest.Cursor.forKey(30L));
+
+        CursoredPageRecord<Long> lazy = CursoredPageRecord.ofLazyCursors(content, PageRequest.Cursor::forKey, 7L,
+                                                                          pageRequest, true, false);
+        CursoredPageRecord<Long> eager = new CursoredPageRecord<>(content, cursors, 7L,
+                                                                  pageRequest, true, false);
+
+        assertSoftly(softly -> {
+            softly.assertThat(lazy).isEqualTo(eager);
+            softly.assertThat(lazy.hashCode()).isEqualTo(eager.hashCode());
+            softly.assertThat(lazy.hasPrevious()).isFalse();
+            softly.assertThat(lazy.totalPages()).isEqualTo(3L);
+        });
+        assertThatThrownBy(lazy::previousPageRequest).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("The key extractor is required and must not return null.")
+    void shouldRequireKeyExtractor() {
+        PageRequest pageRequest = PageRequest.ofSize(2);
+        List<String> content = List.of("A", "B");
+
+        assertThatNullPointerException().isThrownBy(() ->
+                CursoredPageRecord.ofLazyCursors(content, null, -1L, pageRequest, true, true));
+        assertThatNullPointerException().isThrownBy(() ->
+                CursoredPageRecord.ofLazyCursors(content, s -> null, -1L, pageRequest, true, false));
+    }
+
+    @Test
+    @DisplayName("A page can be built from a list of cursors that is null when there are no next or previous pages.")
+    void shouldAllowNullCursorsWithoutPageRequests() {
+        CursoredPageRecord<String> page = new CursoredPageRecord<>(List.of(), null, 0L,
+                                                                   PageRequest.ofSize(5), true, true);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.hasNext()).isFalse();
+            softly.assertThat(page.hasPrevious()).isFalse();
+            softly.assertThat(page.cursors()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("A page with native cursors forms page requests from them and has no cursors per result.")
+    void shouldResumeFromNativeCursors() {
+        PageRequest.Cursor token = PageRequest.Cursor.forNativeToken(new byte[] { 7, 7 });
+        PageRequest pageRequest = PageRequest.ofSize(2).withoutTotal();
+        CursoredPageRecord<String> page1 = new CursoredPageRecord<>(List.of("A", "B"), token, null, -1L, pageRequest);
+        CursoredPageRecord<String> page2 = new CursoredPageRecord<>(List.of("C"), null, null, -1L,
+                                                                    page1.nextPageRequest());
+
+        assertSoftly(softly -> {
+            softly.assertThat(page1.hasNext()).isTrue();
+            softly.assertThat(page1.hasPrevious()).isFalse();
+            softly.assertThat(page1.nextPageRequest().cursor()).contains(token);
+            softly.assertThat(page1.nextPageRequest().page()).isEqualTo(2L);
+            softly.assertThat(page1.nextPageRequest().mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(page2.hasNext()).isFalse();
+            softly.assertThat(page2.content()).containsExactly("C");
+        });
+        assertThatThrownBy(() -> page1.cursor(0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyRangePartitionsTest {
+
+    /**
+     * Entities with sparse keys 3, 6, 9, ... up to 30,000, with the range query counted.
+     */
+    private final NavigableMap<Long, String> table = new TreeMap<>();
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private List<String> findBetween(long minKey, long maxKey, Limit limit) {
+        queries.incrementAndGet();
+        synchronized (table) {
+            return table.subMap(minKey, true, maxKey, true).values().stream()
+                    .limit(limit.maxResults())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long keyOf(String entity) {
+        return Long.parseLong(entity.substring(1));
+    }
+
+    private void populate() {
+        for (long key = 3; key <= 30_000; key += 3) {
+            table.put(key, "E" + key);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream all entities of a key range in order, sequentially")
+    void shouldStreamKeyRangeSequentially() {
+        populate();
+        List<String> results = KeyRangePartitions.stream(1, 30_000, 1000, KeyRangePartitionsTest::keyOf, this::findBetween)
+                .collect(Collectors.toList());
+
+        assertThat(results).isEqualTo(new ArrayList<>(table.values()));
+        // 10 full batches, the last of which ends at the maximum key
+        assertThat(queries.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should stream all entities of a key range in order, in parallel")
+    void shouldStreamKeyRangeInParallel() {
+        populate();
+        List<String> results = KeyRangePartitions.stream(0, 40_000, 100, KeyRangePartitionsTest::keyOf, this::findBetween)
+                .parallel()
+                .collect(Collectors.toList());
+
+        assertThat(results).isEqualTo(new ArrayList<>(table.values()));
+        assertThat(KeyRangePartitions.stream(0, 40_000, 100, KeyRangePartitionsTest::keyOf, this::findBetween)
+                .parallel()
+                .mapToLong(KeyRangePartitionsTest::keyOf)
+                .sum()).isEqualTo(table.keySet().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    @DisplayName("Should split the key range into sub-ranges no narrower than the batch size")
+    void shouldSplitKeyRange() {
+        Spliterator<String> upper = KeyRangePartitions.stream(1, 1000, 100, KeyRangePartitionsTest::keyOf, this::findBetween)
+                .spliterator();
+        Spliterator<String> lower = upper.trySplit();
+
+        assertThat(lower).isNotNull();
+        assertThat(lower.estimateSize()).isEqualTo(500L);
+        assertThat(upper.estimateSize()).isEqualTo(500L);
+        assertThat(lower.trySplit().estimateSize()).isEqualTo(250L);
+        assertThat(lower.trySplit().estimateSize()).isEqualTo(125L);
+        assertThat(lower.trySplit().estimateSize()).isEqualTo(63L);
+        assertThat(lower.estimateSize()).isEqualTo(62L);
+        assertThat(lower.trySplit()).isNull();
+        assertThat(upper.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(queries.get()).isZero();
+
+        Spliterator<Long> fullRange = KeyRangePartitions.<Long>stream(Long.MIN_VALUE, Long.MAX_VALUE, 10,
+                                                                   k -> k, (min, max, limit) -> List.of())
+                .spliterator();
+        assertThat(fullRange.trySplit().estimateSize()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should reject results outside of the requested key range")
+    void shouldRejectKeysOutOfRange() {
+        Stream<String> stream = KeyRangePartitions.stream(1, 10, 5, KeyRangePartitionsTest::keyOf,
+                                                       (min, max, limit) -> List.of("E20"));
+
+        assertThatThrownBy(stream::count).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size that is less than 1")
+    void shouldRejectNonPositiveBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                KeyRangePartitions.stream(1, 10, 0, KeyRangePartitionsTest::keyOf, this::findBetween));
+    }
+}
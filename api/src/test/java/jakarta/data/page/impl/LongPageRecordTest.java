@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class LongPageRecordTest {
+
+    @Test
+    @DisplayName("A primitive page has the same content and page requests as a page of boxed values.")
+    void shouldMatchBoxedPage() {
+        PageRequest pageRequest = PageRequest.ofPage(2).size(4);
+        LongPageRecord page = new LongPageRecord(pageRequest, new long[] { 5L, 6L, 7L, 8L }, 18L);
+        PageRecord<Long> boxed = new PageRecord<>(pageRequest, List.of(5L, 6L, 7L, 8L), 18L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).isEqualTo(boxed.content());
+            softly.assertThat(page.stream()).containsExactly(5L, 6L, 7L, 8L);
+            softly.assertThat(page.longStream().sum()).isEqualTo(26L);
+            softly.assertThat(page.getLong(3)).isEqualTo(8L);
+            softly.assertThat(page.iterator().next()).isEqualTo(5L);
+            softly.assertThat(page.numberOfElements()).isEqualTo(4);
+            softly.assertThat(page.hasContent()).isTrue();
+            softly.assertThat(page.hasNext()).isEqualTo(boxed.hasNext());
+            softly.assertThat(page.nextPageRequest()).isEqualTo(boxed.nextPageRequest());
+            softly.assertThat(page.previousPageRequest()).isEqualTo(boxed.previousPageRequest());
+            softly.assertThat(page.totalElements()).isEqualTo(18L);
+            softly.assertThat(page.totalPages()).isEqualTo(5L);
+            softly.assertThat(page).isEqualTo(new LongPageRecord(pageRequest, new long[] { 5L, 6L, 7L, 8L }, 18L));
+            softly.assertThat(page).hasSameHashCodeAs(new LongPageRecord(pageRequest, new long[] { 5L, 6L, 7L, 8L }, 18L));
+            softly.assertThat(page).isNotEqualTo(new LongPageRecord(pageRequest, new long[] { 5L, 6L, 7L, 9L }, 18L));
+        });
+
+        page.values()[0] = 0L;
+        assertSoftly(softly -> softly.assertThat(page.getLong(0)).isEqualTo(5L));
+        assertThatThrownBy(() -> page.content().set(0, 1L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("The last page of a primitive page has no next page and no totals if not requested.")
+    void shouldIndicateLastPage() {
+        LongPageRecord page = new LongPageRecord(PageRequest.ofSize(4).withoutTotal(), new long[] { 1L, 2L }, -1L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.hasNext()).isFalse();
+            softly.assertThat(page.hasPrevious()).isFalse();
+            softly.assertThat(page.hasTotals()).isFalse();
+        });
+        assertThatThrownBy(page::nextPageRequest).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(page::totalElements).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.PageRequest.Cursor;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class OffsetBoundariesTest {
+
+    @Test
+    @DisplayName("A page request seeks from the nearest boundary that precedes it, skipping the remaining entities.")
+    void shouldSeekFromNearestPrecedingBoundary() {
+        OffsetBoundaries<String> boundaries = new OffsetBoundaries<>(10, 10);
+        boundaries.record("q", PageRequest.ofPage(1).size(10), Cursor.forKey(10L));
+        boundaries.record("q", PageRequest.ofPage(5).size(10), Cursor.forKey(50L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(boundaries.seek("q", PageRequest.ofPage(1).size(10))).isEmpty();
+            softly.assertThat(boundaries.seek("q", PageRequest.ofPage(2).size(10)))
+                    .contains(new OffsetBoundaries.Seek(Cursor.forKey(10L), 0L));
+            softly.assertThat(boundaries.seek("q", PageRequest.ofPage(4).size(10)))
+                    .contains(new OffsetBoundaries.Seek(Cursor.forKey(10L), 20L));
+            softly.assertThat(boundaries.seek("q", PageRequest.ofPage(10).size(25)))
+                    .contains(new OffsetBoundaries.Seek(Cursor.forKey(50L), 175L));
+            softly.assertThat(boundaries.seek("other", PageRequest.ofPage(10).size(10))).isEmpty();
+        });
+
+        boundaries.invalidate("q");
+        assertSoftly(softly -> softly.assertThat(boundaries.seek("q", 60L)).isEmpty());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> boundaries.seek("q",
+                PageRequest.afterCursor(Cursor.forKey(1L), 2L, 10, false)));
+        assertThatIllegalArgumentException().isThrownBy(() -> boundaries.record("q", 0L, Cursor.forKey(1L)));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OffsetBoundaries<>(1, 0));
+    }
+
+    @Test
+    @DisplayName("The lowest boundary of a query and the least recently used query are discarded first.")
+    void shouldDiscardLowestBoundaryAndLeastRecentlyUsedQuery() {
+        OffsetBoundaries<String> boundaries = new OffsetBoundaries<>(2, 2);
+        boundaries.record("a", 10L, Cursor.forKey(10L));
+        boundaries.record("a", 20L, Cursor.forKey(20L));
+        boundaries.record("a", 30L, Cursor.forKey(30L));
+        boundaries.record("b", 10L, Cursor.forKey(10L));
+        boundaries.seek("a", 10L);
+        boundaries.record("c", 10L, Cursor.forKey(10L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(boundaries.seek("a", 25L)).contains(new OffsetBoundaries.Seek(Cursor.forKey(20L), 5L));
+            softly.assertThat(boundaries.seek("a", 15L)).isEmpty();
+            softly.assertThat(boundaries.seek("b", 15L)).isEmpty();
+            softly.assertThat(boundaries.seek("c", 15L)).contains(new OffsetBoundaries.Seek(Cursor.forKey(10L), 5L));
+        });
+
+        boundaries.clear();
+        assertSoftly(softly -> softly.assertThat(boundaries.seek("c", 15L)).isEmpty());
+    }
+}
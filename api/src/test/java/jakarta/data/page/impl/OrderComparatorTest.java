@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.exceptions.MappingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class OrderComparatorTest {
+
+    static class Employee {
+        long id;
+        String lastName;
+        double salary;
+        boolean active;
+
+        Employee(long id, String lastName, double salary, boolean active) {
+            this.id = id;
+            this.lastName = lastName;
+            this.salary = salary;
+            this.active = active;
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort by multiple attributes in order of precedence")
+    void shouldSortLexicographically() {
+        Employee a = new Employee(1L, "Smith", 50000.0, true);
+        Employee b = new Employee(2L, "Jones", 60000.0, true);
+        Employee c = new Employee(3L, "Brown", 50000.0, false);
+        Employee d = new Employee(4L, "Adams", 50000.0, true);
+
+        List<Employee> list = new ArrayList<>(List.of(a, b, c, d));
+        list.sort(OrderComparator.of(Employee.class,
+                                     Order.by(Sort.desc("active"),
+                                              Sort.desc("salary"),
+                                              Sort.asc("lastName"))));
+
+        assertThat(list).containsExactly(b, d, a, c);
+    }
+
+    @Test
+    @DisplayName("Should compare case insensitively and order nulls first when ascending")
+    void shouldIgnoreCaseAndOrderNulls() {
+        Employee a = new Employee(1L, "smith", 0.0, true);
+        Employee b = new Employee(2L, "Jones", 0.0, true);
+        Employee c = new Employee(3L, null, 0.0, true);
+
+        List<Employee> list = new ArrayList<>(List.of(a, b, c));
+        list.sort(OrderComparator.of(Employee.class, Order.by(Sort.ascIgnoreCase("lastName"))));
+        assertThat(list).containsExactly(c, b, a);
+
+        list.sort(OrderComparator.of(Employee.class, Order.by(Sort.asc("lastName"))));
+        assertThat(list).containsExactly(c, b, a);
+
+        list.sort(OrderComparator.of(Employee.class, Order.by(Sort.descIgnoreCase("lastName"))));
+        assertThat(list).containsExactly(a, b, c);
+    }
+
+    @Test
+    @DisplayName("Should reuse the compiled comparator for an equal Order")
+    void shouldCacheByOrder() {
+        OrderComparator<Employee> first = OrderComparator.of(Employee.class,
+                Order.by(Sort.asc("lastName"), Sort.desc("id")));
+        OrderComparator<Employee> second = OrderComparator.of(Employee.class,
+                Order.by(Sort.asc("lastName"), Sort.desc("id")));
+        OrderComparator<Employee> other = OrderComparator.of(Employee.class,
+                Order.by(Sort.asc("lastName"), Sort.asc("id")));
+
+        assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(other).isNotSameAs(first);
+            softly.assertThat(first.order()).isEqualTo(Order.by(Sort.asc("lastName"), Sort.desc("id")));
+        });
+    }
+
+    @Test
+    @DisplayName("Should order the same as a reflective comparator")
+    void shouldMatchReflectiveComparator() {
+        Random random = new Random(20250101L);
+        String[] names = {"Adams", "brown", "Brown", "Jones", "smith", null};
+        List<Employee> list = new ArrayList<>();
+        for (long id = 0; id < 10_000; id++) {
+            list.add(new Employee(id,
+                                  names[random.nextInt(names.length)],
+                                  random.nextInt(20) * 1000.0,
+                                  random.nextBoolean()));
+        }
+        Order<Employee> order = Order.by(Sort.asc("active"),
+                                         Sort.descIgnoreCase("lastName"),
+                                         Sort.desc("salary"),
+                                         Sort.asc("id"));
+
+        List<Employee> expected = new ArrayList<>(list);
+        expected.sort(reflective(order));
+        List<Employee> actual = new ArrayList<>(list);
+        actual.sort(OrderComparator.of(Employee.class, order));
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should reject sort criteria for an unknown attribute")
+    void shouldFailForUnknownAttribute() {
+        assertThatThrownBy(() -> OrderComparator.of(Employee.class, Order.by(Sort.asc("firstName"))))
+                .isInstanceOf(MappingException.class);
+    }
+
+    /**
+     * Comparator that reads attribute values with reflection upon every comparison.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Comparator<Employee> reflective(Order<Employee> order) {
+        return (e1, e2) -> {
+            try {
+                for (Sort<? super Employee> sort : order) {
+                    Field field = Employee.class.getDeclaredField(sort.property());
+                    Comparable v1 = (Comparable) field.get(e1);
+                    Comparable v2 = (Comparable) field.get(e2);
+                    int c;
+                    if (v1 == null || v2 == null) {
+                        c = v1 == null ? (v2 == null ? 0 : -1) : 1;
+                    } else if (sort.ignoreCase() && v1 instanceof String s1) {
+                        c = s1.compareToIgnoreCase((String) v2);
+                    } else {
+                        c = v1.compareTo(v2);
+                    }
+                    if (c != 0) {
+                        return sort.isAscending() ? c : -c;
+                    }
+                }
+                return 0;
+            } catch (ReflectiveOperationException x) {
+                throw new IllegalStateException(x);
+            }
+        };
+    }
+}
@@ -24,6 +24,8 @@ import jakarta.data.page.PageRequest;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -112,4 +114,58 @@ class PageRecordTest {
         });
     }
 
+    @Test
+    @DisplayName("Totals are estimated only if the page request allows an estimate, which does not limit further pages.")
+    void shouldIndicateEstimatedTotals() {
+        PageRequest estimatedRequest = PageRequest.ofPage(2).size(4).withEstimatedTotal();
+        // the estimate of 6 is lower than the actual number of elements
+        PageRecord<String> estimated = new PageRecord<>(estimatedRequest, List.of("E", "F", "G", "H"), 6L);
+        PageRecord<String> exact = new PageRecord<>(PageRequest.ofPage(2).size(4), List.of("E", "F", "G", "H"), 6L);
+        PageRecord<String> none = new PageRecord<>(estimatedRequest.withoutTotal(), List.of("E", "F", "G", "H"), -1L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(estimated.isTotalEstimated()).isEqualTo(true);
+            softly.assertThat(estimated.totalElements()).isEqualTo(6L);
+            softly.assertThat(estimated.hasNext()).isEqualTo(true);
+            softly.assertThat(estimated.nextPageRequest()).isEqualTo(PageRequest.ofPage(3).size(4).withEstimatedTotal());
+            softly.assertThat(estimated.previousPageRequest().requestEstimatedTotal()).isEqualTo(true);
+            softly.assertThat(exact.isTotalEstimated()).isEqualTo(false);
+            softly.assertThat(exact.hasNext()).isEqualTo(false);
+            softly.assertThat(none.isTotalEstimated()).isEqualTo(false);
+        });
+
+        CursoredPageRecord<String> cursored = CursoredPageRecord.ofLazyCursors(List.of("E", "F"), PageRequest.Cursor::forKey,
+                                                                                1000L, estimatedRequest, false, false);
+        assertSoftly(softly -> {
+            softly.assertThat(cursored.isTotalEstimated()).isEqualTo(true);
+            softly.assertThat(cursored.nextPageRequest().requestEstimatedTotal()).isEqualTo(true);
+            softly.assertThat(cursored.previousPageRequest().requestEstimatedTotal()).isEqualTo(true);
+        });
+    }
+
+    @Test
+    @DisplayName("Content and total that are obtained concurrently are combined into a page with the same total.")
+    void shouldCombineConcurrentContentAndTotal() {
+        PageRequest pageRequest = PageRequest.ofPage(2).size(4);
+        CompletableFuture<List<String>> content = new CompletableFuture<>();
+        CompletableFuture<Long> total = new CompletableFuture<>();
+        CompletableFuture<PageRecord<String>> combined = PageRecord.combine(pageRequest, content, total)
+                .toCompletableFuture();
+
+        total.complete(18L);
+        assertSoftly(softly -> softly.assertThat(combined).isNotDone());
+        content.complete(List.of("E", "F", "G", "H"));
+
+        PageRecord<String> page = combined.join();
+        assertSoftly(softly -> {
+            softly.assertThat(page).isEqualTo(new PageRecord<>(pageRequest, List.of("E", "F", "G", "H"), 18L));
+            softly.assertThat(page.totalElementsAsync().toCompletableFuture().join()).isEqualTo(page.totalElements());
+            softly.assertThat(page.hasNext()).isEqualTo(true);
+        });
+
+        PageRecord<String> noTotal = new PageRecord<>(pageRequest.withoutTotal(), List.of("E"), -1L);
+        assertThatThrownBy(() -> noTotal.totalElementsAsync().toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
 }
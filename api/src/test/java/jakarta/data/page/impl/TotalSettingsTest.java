@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class TotalSettingsTest {
+
+    @Test
+    void shouldApplyTotalsSettingsOfPreviousRequest() {
+        PageRequest next = PageRequest.ofPage(2).size(10);
+
+        assertSoftly(softly -> {
+            softly.assertThat(TotalSettings.of(PageRequest.ofSize(10), next.withoutTotal()))
+                    .isEqualTo(next);
+            softly.assertThat(TotalSettings.of(PageRequest.ofSize(10).withoutTotal(), next))
+                    .isEqualTo(next.withoutTotal());
+            softly.assertThat(TotalSettings.of(PageRequest.ofSize(10).withEstimatedTotal(), next))
+                    .isEqualTo(next.withEstimatedTotal());
+        });
+    }
+}
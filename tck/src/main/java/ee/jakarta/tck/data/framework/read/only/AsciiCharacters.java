@@ -18,11 +18,13 @@ package ee.jakarta.tck.data.framework.read.only;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import jakarta.data.Limit;
 import jakarta.data.Order;
 import jakarta.data.Sort;
+import jakarta.data.metamodel.restrict.Restriction;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.repository.By;
@@ -53,6 +55,9 @@ public interface AsciiCharacters extends DataRepository<AsciiCharacter, Long>, I
     @Find
     AsciiCharacter find(char thisCharacter);
 
+    @Find(AsciiCharacter.class)
+    Optional<AsciiCharacterSummary> summarize(@By("thisCharacter") char ch);
+
     @Find
     Optional<AsciiCharacter> find(@By("thisCharacter") char ch,
                                   @By("hexadecimal") String hex);
@@ -87,12 +92,21 @@ public interface AsciiCharacters extends DataRepository<AsciiCharacter, Long>, I
            " order by id asc")
     Character[] getABCDFO();
 
+    @Query("WHERE numericValue BETWEEN ?1 AND ?2 ORDER BY numericValue ASC")
+    List<AsciiCharacterSummary> summariesBetween(int min, int max);
+
     @Query("SELECT hexadecimal WHERE hexadecimal IS NOT NULL AND thisCharacter = ?1")
     Optional<String> hex(char ch);
 
     @Query("WHERE hexadecimal <> ' ORDER BY isn''t a keyword when inside a literal' AND hexadecimal IN ('4a', '4b', '4c', ?1)")
     Stream<AsciiCharacter> jklOr(String hex);
 
+    @Query("SELECT numericValue WHERE numericValue BETWEEN ?1 AND ?2 ORDER BY numericValue DESC")
+    int[] numericValuesBetween(int min, int max);
+
+    @Query("SELECT numericValue WHERE numericValue BETWEEN ?1 AND ?2 ORDER BY numericValue ASC")
+    IntStream numericValueStreamBetween(int min, int max);
+
     default Stream<AsciiCharacter> retrieveAlphaNumericIn(long minId, long maxId) {
         return findByIdBetween(minId, maxId, Sort.asc("id"))
                         .filter(c -> Character.isLetterOrDigit(c.getThisCharacter()));
@@ -104,6 +118,9 @@ public interface AsciiCharacters extends DataRepository<AsciiCharacter, Long>, I
     @Save
     List<AsciiCharacter> saveAll(List<AsciiCharacter> characters);
 
+    @Find
+    List<AsciiCharacter> search(Restriction<AsciiCharacter> restriction, Order<AsciiCharacter> order);
+
     @Query("SELECT COUNT(THIS) WHERE numericValue <= 97 AND numericValue >= 74")
     long twentyFour();
 }
@@ -17,15 +17,21 @@ package ee.jakarta.tck.data.framework.read.only;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import jakarta.data.Limit;
 import jakarta.data.Order;
 import jakarta.data.Sort;
+import jakarta.data.metamodel.restrict.Restriction;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
+import jakarta.data.repository.AccelerateOffsets;
 import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.By;
+import jakarta.data.repository.Delete;
+import jakarta.data.repository.Find;
 import jakarta.data.repository.Query;
 import jakarta.data.repository.Repository;
 
@@ -42,6 +48,24 @@ public interface NaturalNumbers extends BasicRepository<NaturalNumber, Long>, Id
 
     long countAll();
 
+    @Delete
+    long deleteMatching(Restriction<NaturalNumber> restriction);
+
+    @Find
+    List<NaturalNumber> filter(Restriction<NaturalNumber> restriction,
+                               Order<NaturalNumber> order);
+
+    @Find
+    Page<NaturalNumber> filter(@By("numType") NumberType type,
+                               Restriction<NaturalNumber> restriction,
+                               PageRequest pageRequest,
+                               Order<NaturalNumber> order);
+
+    @AccelerateOffsets
+    Page<NaturalNumber> findByIdGreaterThan(long exclusiveMin,
+                                            PageRequest pagination,
+                                            Order<NaturalNumber> order);
+
     CursoredPage<NaturalNumber> findByFloorOfSquareRootOrderByIdAsc(long sqrtFloor,
                                                                     PageRequest pagination);
 
@@ -76,6 +100,12 @@ public interface NaturalNumbers extends BasicRepository<NaturalNumber, Long>, Id
     @Query("SELECT id WHERE isOdd = true AND id BETWEEN 21 AND ?1 ORDER BY id ASC")
     Page<Long> oddsFrom21To(long max, PageRequest pageRequest);
 
+    @Query("SELECT id WHERE isOdd = true AND id BETWEEN 21 AND ?1 ORDER BY id ASC")
+    long[] oddIdsFrom21To(long max);
+
+    @Query("SELECT id WHERE isOdd = true AND id BETWEEN 21 AND ?1 ORDER BY id ASC")
+    LongStream oddIdStreamFrom21To(long max, Limit limit);
+
     @Query("WHERE isOdd = false AND numType = ee.jakarta.tck.data.framework.read.only.NaturalNumber.NumberType.PRIME")
     Optional<NaturalNumber> two();
 }
@@ -16,11 +16,11 @@
 package ee.jakarta.tck.data.framework.read.only;
 
 import jakarta.data.metamodel.Attribute;
-import jakarta.data.metamodel.SortableAttribute;
+import jakarta.data.metamodel.NumericAttribute;
 import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.metamodel.TextAttribute;
 import jakarta.data.metamodel.impl.AttributeRecord;
-import jakarta.data.metamodel.impl.SortableAttributeRecord;
+import jakarta.data.metamodel.impl.NumericAttributeRecord;
 import jakarta.data.metamodel.impl.TextAttributeRecord;
 
 /**
@@ -33,10 +33,10 @@ public class _AsciiChar {
     public static final String HEXADECIMAL = "hexadecimal";
     public static final String NUMERICVALUE = "numericValue";
 
-    public static final SortableAttribute<AsciiCharacter> id = new SortableAttributeRecord<>("id");
+    public static final NumericAttribute<AsciiCharacter> id = new NumericAttributeRecord<>("id");
     public static final TextAttribute<AsciiCharacter> hexadecimal = new TextAttributeRecord<>("hexadecimal");
     public static final Attribute<AsciiCharacter> isControl = new AttributeRecord<>("isControl"); // user decided it didn't care about sorting for this one
-    public static final SortableAttribute<AsciiCharacter> numericValue = new SortableAttributeRecord<>("numericValue");
+    public static final NumericAttribute<AsciiCharacter> numericValue = new NumericAttributeRecord<>("numericValue");
     public static final TextAttribute<AsciiCharacter> thisCharacter = new TextAttributeRecord<>("thisCharacter");
 
     // Avoids the checkstyle error,
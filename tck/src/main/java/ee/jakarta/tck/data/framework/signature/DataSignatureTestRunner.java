@@ -76,6 +76,7 @@ public class DataSignatureTestRunner extends SigTestEE {
                   "jakarta.data.exceptions",
                   "jakarta.data.metamodel",
                   "jakarta.data.metamodel.impl",
+                  "jakarta.data.metamodel.restrict",
                   "jakarta.data.page",
                   "jakarta.data.page.impl",
                   "jakarta.data.repository",
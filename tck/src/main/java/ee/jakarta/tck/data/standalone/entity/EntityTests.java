@@ -15,25 +15,32 @@
  */
 package ee.jakarta.tck.data.standalone.entity;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import jakarta.data.page.CursoredPage;
@@ -49,6 +56,7 @@ import ee.jakarta.tck.data.framework.junit.anno.Standalone;
 import ee.jakarta.tck.data.framework.read.only._AsciiChar;
 import ee.jakarta.tck.data.framework.read.only._AsciiCharacter;
 import ee.jakarta.tck.data.framework.read.only.AsciiCharacter;
+import ee.jakarta.tck.data.framework.read.only.AsciiCharacterSummary;
 import ee.jakarta.tck.data.framework.read.only.AsciiCharacters;
 import ee.jakarta.tck.data.framework.read.only.AsciiCharactersPopulator;
 import ee.jakarta.tck.data.framework.read.only.CustomRepository;
@@ -65,9 +73,12 @@ import jakarta.data.Order;
 import jakarta.data.Sort;
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.metamodel.restrict.Restrict;
+import jakarta.data.metamodel.restrict.Restriction;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.page.PageRequest.Cursor;
+import jakarta.data.page.impl.LongPageRecord;
 import jakarta.inject.Inject;
 
 /**
@@ -168,6 +179,37 @@ public class EntityTests {
         assertEquals(60L, numbers.findById(60L).orElseThrow().getId());
     }
 
+    @Assertion(id = "133",
+            strategy = "Use the built-in findByIds method of BasicRepository with thousands of Ids, " +
+                       "most of which do not exist and some of which are duplicates, expecting the entities " +
+                       "that exist to be returned in the order in which their Ids are supplied.")
+    public void testBasicRepositoryFindByIds() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 5000L; id > 0L; id -= 3L) { // 5000, 4997, ... 8, 5, 2
+            ids.add(id);
+        }
+        ids.add(98L); // duplicate
+        ids.add(1L);
+
+        Map<Long, NaturalNumber> found = numbers.findByIds(ids);
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 98L; id > 0L; id -= 3L) { // 98, 95, ... 5, 2
+            expected.add(id);
+        }
+        expected.add(1L);
+
+        assertEquals(expected, List.copyOf(found.keySet()));
+        for (Map.Entry<Long, NaturalNumber> entry : found.entrySet()) {
+            assertEquals(entry.getKey(), entry.getValue().getId());
+        }
+        assertEquals(false, found.get(98L).isOdd());
+        assertEquals(NumberType.ONE, found.get(1L).getNumType());
+
+        assertTrue(numbers.findByIds(List.of(0L, 101L, 1000L)).isEmpty());
+        assertTrue(numbers.findByIds(Set.of()).isEmpty());
+    }
+
     @Assertion(id = "133",
             strategy = "Use a repository that inherits from BasicRepository and defines no additional methods of its own. " +
                        "Use all of the built-in methods.")
@@ -406,6 +448,80 @@ public class EntityTests {
         }
     }
 
+    @Assertion(id = "133", strategy = "Request a Page with totals and obtain the total asynchronously, " +
+                                      "expecting the same total as the synchronous path.")
+    public void testTotalElementsAsync() throws Exception {
+        PageRequest second = PageRequest.ofPage(2).size(10);
+        Page<AsciiCharacter> page;
+        long total;
+        try {
+            page = characters.findByNumericValueBetween(48, 90, second, Order.by(_AsciiCharacter.numericValue.asc()));
+            total = page.totalElements();
+        } catch (UnsupportedOperationException x) {
+            // Some NoSQL databases lack the ability to count the total results
+            // and therefore cannot support a return type of Page.
+            // Column and Key-Value databases might not be capable of sorting.
+            // Key-Value databases might not be capable of Between.
+            return;
+        }
+
+        assertEquals(43L, total);
+        assertEquals(Long.valueOf(total),
+                     page.totalElementsAsync().toCompletableFuture().get(2, TimeUnit.MINUTES));
+        assertEquals(5L, page.totalPages());
+        assertEquals(List.of(':', ';', '<', '=', '>', '?', '@', 'A', 'B', 'C'),
+                     page.stream().map(AsciiCharacter::getThisCharacter).toList());
+
+        Page<AsciiCharacter> withoutTotal = characters.findByNumericValueBetween(
+                48, 90, second.withoutTotal(), Order.by(_AsciiCharacter.numericValue.asc()));
+        try {
+            withoutTotal.totalElementsAsync().toCompletableFuture().get(2, TimeUnit.MINUTES);
+            fail("The total must not be available when it was not requested.");
+        } catch (ExecutionException x) {
+            if (!(x.getCause() instanceof IllegalStateException)) {
+                throw x;
+            }
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository method with AccelerateOffsets to request pages in a non-sequential order, " +
+                                      "expecting the same results as true offset pagination.")
+    public void testAccelerateOffsets() {
+        Order<NaturalNumber> order = Order.by(Sort.desc("floorOfSquareRoot"), Sort.asc("id"));
+        List<NaturalNumber> all;
+        try {
+            all = numbers.findByIdGreaterThanEqual(2L, Limit.of(100), order);
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.COLUMN)) {
+                // Column and Key-Value databases might not be capable of sorting.
+                // Key-Value databases might not be capable of GreaterThanEqual.
+                return;
+            } else {
+                throw x;
+            }
+        }
+        List<Long> expected = all.stream().map(NaturalNumber::getId).toList();
+        assertEquals(99, expected.size());
+
+        // sequential pages, then jumps forward and backward across remembered boundaries
+        for (long pageNum : new long[] { 1, 2, 3, 12, 9, 4, 13, 14, 15, 7 }) {
+            PageRequest pageRequest = PageRequest.ofPage(pageNum).size(7).withoutTotal();
+            Page<NaturalNumber> page = numbers.findByIdGreaterThan(1L, pageRequest, order);
+
+            int from = (int) Math.min(expected.size(), (pageNum - 1) * 7);
+            int to = Math.min(expected.size(), from + 7);
+            assertEquals(expected.subList(from, to),
+                         page.stream().map(NaturalNumber::getId).toList(),
+                         "page " + pageNum);
+            assertEquals(to < expected.size(), page.hasNext(), "page " + pageNum);
+        }
+
+        // a different page size shares the offsets of the same query
+        Page<NaturalNumber> page = numbers.findByIdGreaterThan(1L, PageRequest.ofPage(5).size(10).withoutTotal(), order);
+        assertEquals(expected.subList(40, 50),
+                     page.stream().map(NaturalNumber::getId).toList());
+    }
+
     @Assertion(id = "133", strategy = "Request a Slice higher than the final Slice, expecting an empty Slice with 0 results.")
     public void testBeyondFinalSlice() {
         PageRequest sixth = PageRequest.ofPage(6).size(5).withoutTotal();
@@ -1192,6 +1308,79 @@ public class EntityTests {
                      primes.map(NaturalNumber::getId).collect(Collectors.toList()));
     }
 
+    @Assertion(id = "133", strategy = "Use a repository method with a Restriction that is an IN or NOT IN on a primitive array " +
+                                      "with more than 65535 values, which exceeds the bind parameter limits of some databases.")
+    public void testInLargePrimitiveArray() {
+        long[] evens = new long[70000];
+        int[] multiplesOf7 = new int[70000];
+        for (int i = 0; i < evens.length; i++) {
+            evens[i] = 2L * (i + 1);
+            multiplesOf7[i] = 7 * (i + 1);
+        }
+
+        List<NaturalNumber> found;
+        try {
+            found = numbers.filter(Restrict.in(evens, "id"), Order.by(Sort.asc("id")));
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                return; // Key-Value databases might not be capable of In
+            } else {
+                throw x;
+            }
+        }
+
+        assertEquals(50, found.size());
+        for (int i = 0; i < found.size(); i++) {
+            assertEquals(2L * (i + 1), found.get(i).getId());
+        }
+
+        found = numbers.filter(Restrict.all(Restrict.notIn(evens, "id"),
+                                            Restrict.lessThan(10L, "id")),
+                               Order.by(Sort.desc("id")));
+        assertEquals(List.of(9L, 7L, 5L, 3L, 1L),
+                     found.stream().map(NaturalNumber::getId).toList());
+
+        List<AsciiCharacter> chars = characters.search(Restrict.in(multiplesOf7, "numericValue"),
+                                                       Order.by(Sort.asc("numericValue")));
+        assertEquals(List.of(7, 14, 21, 28, 35, 42, 49, 56, 63, 70, 77, 84, 91, 98, 105, 112, 119, 126),
+                     chars.stream().map(AsciiCharacter::getNumericValue).toList());
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository method with a Restriction that is a NOT IN on a primitive array " +
+                                      "with more than 65535 values, where the values that are excluded are spread " +
+                                      "across the array, and verify that only the values that are excluded by none " +
+                                      "of the values of the array are included in the results.")
+    public void testNotInLargePrimitiveArray() {
+        // every value from 70000 down to 1, except for multiples of 16,
+        // such that the smallest values are at the end of the array
+        int[] values = IntStream.rangeClosed(1, 70000)
+                                .map(i -> 70001 - i)
+                                .filter(i -> i % 16 != 0)
+                                .toArray();
+
+        List<AsciiCharacter> found;
+        try {
+            found = characters.search(Restrict.notIn(values, "numericValue"),
+                                      Order.by(Sort.asc("numericValue")));
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                return; // Key-Value databases might not be capable of Not In
+            } else {
+                throw x;
+            }
+        }
+
+        assertEquals(List.of(16, 32, 48, 64, 80, 96, 112),
+                     found.stream().map(AsciiCharacter::getNumericValue).toList());
+
+        found = characters.search(Restrict.all(Restrict.notIn(values, "numericValue"),
+                                               Restrict.greaterThan(50, "numericValue")),
+                                  Order.by(Sort.desc("numericValue")));
+
+        assertEquals(List.of(112, 96, 80, 64),
+                     found.stream().map(AsciiCharacter::getNumericValue).toList());
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method with the IgnoreCase keyword.")
     public void testIgnoreCase() {
         Stream<AsciiCharacter> found;
@@ -1624,6 +1813,105 @@ public class EntityTests {
         }
     }
 
+    @Assertion(id = "458", strategy = "Use repository methods with JDQL queries that select a single numeric attribute " +
+                                      "and return primitive arrays and streams, expecting the same values as boxed results.")
+    public void testPrimitiveResultTypes() {
+        long[] odds;
+        try {
+            odds = numbers.oddIdsFrom21To(40L);
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                // Key-Value databases are not capable of JDQL BETWEEN
+                // Key-Value databases are not capable of JDQL TRUE/FALSE
+                return;
+            } else {
+                throw x;
+            }
+        }
+
+        assertArrayEquals(new long[] { 21L, 23L, 25L, 27L, 29L, 31L, 33L, 35L, 37L, 39L }, odds);
+
+        try (LongStream stream = numbers.oddIdStreamFrom21To(40L, Limit.range(3, 6))) {
+            assertArrayEquals(new long[] { 25L, 27L, 29L, 31L }, stream.toArray());
+        }
+
+        assertArrayEquals(new int[] { 70, 69, 68, 67, 66, 65 },
+                          characters.numericValuesBetween(65, 70));
+
+        try (IntStream stream = characters.numericValueStreamBetween(97, 102)) {
+            assertEquals("abcdef",
+                         stream.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                               .toString());
+        }
+
+        // a Jakarta Data provider may return a primitive page for a single long attribute
+        Page<Long> page = numbers.oddsFrom21To(40L, PageRequest.ofSize(5).withoutTotal());
+        assertEquals(List.of(21L, 23L, 25L, 27L, 29L), page.content());
+        if (page instanceof LongPageRecord longPage) {
+            assertArrayEquals(new long[] { 21L, 23L, 25L, 27L, 29L }, longPage.longStream().toArray());
+            assertEquals(29L, longPage.getLong(4));
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Use repository methods annotated with Find and Query that return a record projection " +
+                                      "of an entity, expecting the record components to hold the values of the mapped attributes.")
+    public void testRecordProjection() {
+        Optional<AsciiCharacterSummary> k;
+        try {
+            k = characters.summarize('k');
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                // Key-Value databases might not be capable of retrieving a subset of attributes.
+                return;
+            } else {
+                throw x;
+            }
+        }
+        assertEquals(Optional.of(new AsciiCharacterSummary('k', "6b", 107)), k);
+
+        List<AsciiCharacterSummary> summaries;
+        try {
+            summaries = characters.summariesBetween(88, 90);
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.COLUMN)) {
+                // Column and Key-Value databases might not be capable of sorting.
+                // Key-Value databases might not be capable of JDQL BETWEEN.
+                return;
+            } else {
+                throw x;
+            }
+        }
+
+        assertEquals(List.of(new AsciiCharacterSummary('X', "58", 88),
+                             new AsciiCharacterSummary('Y', "59", 89),
+                             new AsciiCharacterSummary('Z', "5a", 90)),
+                     summaries);
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository method with a full-text Restriction on the AsciiCharacters data, " +
+                                      "and verify that the rows containing the words are included in the results.")
+    public void testMatches() {
+        Order<AsciiCharacter> byId = Order.by(Sort.asc("id"));
+        List<AsciiCharacter> found;
+        try {
+            found = characters.search(Restrict.matches("4B", "hexadecimal"), byId);
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.GRAPH)) {
+                // NoSQL databases might not be capable of full-text matching.
+                return;
+            } else {
+                throw x;
+            }
+        }
+
+        // a provider might apply linguistic processing, such as stemming,
+        // that matches additional rows, but must match the expected rows
+        assertTrue(found.stream().map(AsciiCharacter::getThisCharacter).toList().contains('K'));
+
+        found = characters.search(Restrict.matches("4", "hexadecimal"), byId);
+        assertTrue(found.stream().map(AsciiCharacter::getId).toList().contains(4L));
+    }
+
     @Assertion(id = "133",
                strategy = "Use a repository method with two Sort parameters specifying a mixture of ascending and descending order, " +
                           "and verify all results are returned and are ordered according to the sort criteria.")
@@ -2000,6 +2288,106 @@ public class EntityTests {
         }
     }
 
+    @Assertion(id = "133", strategy = "Use a repository method annotated with Delete that accepts a Restriction parameter.")
+    public void testRestrictionParameterOnDelete() {
+        long deleted;
+        try {
+            deleted = numbers.deleteMatching(Restrict.greaterThan(100L, "id"));
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                return; // Key-Value databases might not be capable of GreaterThan
+            } else {
+                throw x;
+            }
+        }
+
+        // no natural numbers in the read-only data set are above 100, so nothing is deleted
+        assertEquals(0L, deleted);
+
+        deleted = numbers.deleteMatching(Restrict.all(Restrict.greaterThan(100L, "id"),
+                                                      Restrict.lessThan(50L, "id")));
+        assertEquals(0L, deleted);
+
+        assertEquals(100L, numbers.countAll());
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository method annotated with Find that accepts a Restriction parameter. " +
+                                      "Reuse the method with restrictions that differ only in their values.")
+    public void testRestrictionParameterOnFind() {
+        Order<NaturalNumber> idDesc = Order.by(Sort.desc("id"));
+
+        List<NaturalNumber> found;
+        try {
+            found = numbers.filter(Restrict.all(Restrict.greaterThan(20L, "id"),
+                                                Restrict.lessThanEqual(30L, "id"),
+                                                Restrict.equalTo(true, "isOdd")),
+                                   idDesc);
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                return; // Key-Value databases might not be capable of And or GreaterThan
+            } else {
+                throw x;
+            }
+        }
+
+        assertEquals(List.of(29L, 27L, 25L, 23L, 21L),
+                     found.stream().map(NaturalNumber::getId).toList());
+
+        // same structure, different values
+        found = numbers.filter(Restrict.all(Restrict.greaterThan(50L, "id"),
+                                            Restrict.lessThanEqual(60L, "id"),
+                                            Restrict.equalTo(true, "isOdd")),
+                               idDesc);
+
+        assertEquals(List.of(59L, 57L, 55L, 53L, 51L),
+                     found.stream().map(NaturalNumber::getId).toList());
+
+        found = numbers.filter(Restrict.not(Restrict.all(Restrict.greaterThan(3L, "id"),
+                                                         Restrict.lessThan(98L, "id"))),
+                               idDesc);
+
+        assertEquals(List.of(100L, 99L, 98L, 3L, 2L, 1L),
+                     found.stream().map(NaturalNumber::getId).toList());
+
+        try {
+            numbers.filter((Restriction<NaturalNumber>) null, idDesc);
+            fail("A null Restriction must be rejected.");
+        } catch (NullPointerException x) {
+            // expected
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository method annotated with Find that accepts a Restriction parameter " +
+                                      "in combination with an entity attribute parameter, a PageRequest, and an Order.")
+    public void testRestrictionParameterWithPagination() {
+        Page<NaturalNumber> page;
+        try {
+            page = numbers.filter(NumberType.PRIME,
+                                  Restrict.lessThan(50L, "id"),
+                                  PageRequest.ofSize(5),
+                                  Order.by(Sort.desc("id")));
+        } catch (UnsupportedOperationException x) {
+            if (type.isKeywordSupportAtOrBelow(DatabaseType.KEY_VALUE)) {
+                return; // Key-Value databases might not be capable of And or LessThan
+            } else {
+                throw x;
+            }
+        }
+
+        assertEquals(List.of(47L, 43L, 41L, 37L, 31L),
+                     page.stream().map(NaturalNumber::getId).toList());
+        assertEquals(15L, page.totalElements());
+        assertEquals(3L, page.totalPages());
+
+        page = numbers.filter(NumberType.PRIME,
+                              Restrict.lessThan(50L, "id"),
+                              page.nextPageRequest(),
+                              Order.by(Sort.desc("id")));
+
+        assertEquals(List.of(29L, 23L, 19L, 17L, 13L),
+                     page.stream().map(NaturalNumber::getId).toList());
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method that returns a single entity value where a single result is found.")
     public void testSingleEntity() {
         AsciiCharacter ch;
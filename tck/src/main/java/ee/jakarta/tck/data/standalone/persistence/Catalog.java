@@ -22,6 +22,8 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import jakarta.data.Order;
+import jakarta.data.metamodel.restrict.Restriction;
+import jakarta.data.repository.BatchSize;
 import jakarta.data.repository.By;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Delete;
@@ -43,6 +45,14 @@ public interface Catalog extends DataRepository<Product, String> {
     @Insert
     Product[] addMultiple(Product... products);
 
+    @Insert
+    @BatchSize(500)
+    Product[] addBatched(Product... products);
+
+    @Delete
+    @BatchSize(500)
+    void removeBatched(List<Product> products);
+
     @Find
     Optional<Product> get(String productNum);
 
@@ -82,6 +92,9 @@ public interface Catalog extends DataRepository<Product, String> {
 
     List<Product> findByProductNumLike(String productNum);
 
+    @Find
+    List<Product> search(Restriction<Product> restriction, Order<Product> order);
+
 //    EntityManager getEntityManager();
 //
 //    default double sumPrices(Department... departments) {
@@ -35,12 +35,15 @@ import org.jboss.shrinkwrap.api.spec.WebArchive;
 import ee.jakarta.tck.data.framework.junit.anno.Assertion;
 import ee.jakarta.tck.data.framework.junit.anno.Persistence;
 import ee.jakarta.tck.data.framework.junit.anno.Standalone;
+import ee.jakarta.tck.data.framework.utilities.DatabaseType;
+import ee.jakarta.tck.data.framework.utilities.TestProperty;
 import ee.jakarta.tck.data.standalone.persistence.Product.Department;
 
 import jakarta.data.Order;
 import jakarta.data.Sort;
 import jakarta.data.exceptions.EntityExistsException;
 import jakarta.data.exceptions.OptimisticLockingFailureException;
+import jakarta.data.metamodel.restrict.Restrict;
 import jakarta.inject.Inject;
 
 /**
@@ -58,6 +61,8 @@ public class PersistenceEntityTests {
     @Inject
     Catalog catalog;
 
+    private DatabaseType type = TestProperty.databaseType.getDatabaseType();
+
     @Assertion(id = "133", strategy = "Use a repository method that obtains the Entity Manager.")
     public void testEntityManager() {
         catalog.deleteByProductNumLike("TEST-PROD-%");
@@ -133,6 +138,46 @@ public class PersistenceEntityTests {
         assertEquals(3L, catalog.deleteByProductNumLike("TEST-PROD-%"));
     }
 
+    @Assertion(id = "133", strategy = "Use a repository method with a full-text Restriction, which matches terms and phrases " +
+                                      "as whole words without regard to case, rather than as substrings.")
+    public void testMatches() {
+        catalog.deleteByProductNumLike("TEST-PROD-%");
+
+        catalog.save(Product.of("Blue Mountain coffee beans", 12.99, "TEST-PROD-35", Department.GROCERY));
+        catalog.save(Product.of("mountain bike", 449.00, "TEST-PROD-36", Department.SPORTING_GOODS));
+        catalog.save(Product.of("coffee mug, blue", 8.49, "TEST-PROD-37", Department.GROCERY));
+        catalog.save(Product.of("bluetooth speaker", 39.99, "TEST-PROD-38", Department.ELECTRONICS));
+
+        Order<Product> byName = Order.by(Sort.asc("name"));
+        List<Product> found;
+        try {
+            found = catalog.search(Restrict.matches("mountain", "name"), byName);
+        } catch (UnsupportedOperationException x) {
+            // The database might not be capable of full-text matching
+            assertEquals(4L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+            return;
+        }
+
+        assertEquals(List.of("Blue Mountain coffee beans", "mountain bike"),
+                     found.stream().map(Product::getName).collect(Collectors.toList()));
+
+        // every term must be present, in any order, and terms are whole words, not substrings
+        found = catalog.search(Restrict.matches("BLUE coffee", "name"), byName);
+        assertEquals(List.of("Blue Mountain coffee beans", "coffee mug, blue"),
+                     found.stream().map(Product::getName).collect(Collectors.toList()));
+
+        // a phrase must be present as consecutive words
+        found = catalog.search(Restrict.matches("\"coffee mug\"", "name"), byName);
+        assertEquals(List.of("coffee mug, blue"),
+                     found.stream().map(Product::getName).collect(Collectors.toList()));
+
+        found = catalog.search(Restrict.matches("\"mountain blue\"", "name"), byName);
+        assertEquals(List.of(),
+                     found.stream().map(Product::getName).collect(Collectors.toList()));
+
+        assertEquals(4L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+    }
+
     @Assertion(id = "119", strategy = "Ensure that this test is only run when provider supports persistence entities")
     public void testNotRunOnNOSQL() {
         catalog.deleteByProductNumLike("TEST-PROD-%");
@@ -214,6 +259,47 @@ public class PersistenceEntityTests {
         assertEquals(false, remaining.iterator().hasNext());
     }
 
+    @Assertion(id = "133", strategy = "Use lifecycle methods with BatchSize to insert and delete 100,000 entities, " +
+                                      "verifying that each entity is written with its generated version " +
+                                      "and that the results are in the order of the supplied entities.")
+    public void testBatchedInsertDelete() {
+        if (type.isKeywordSupportAtOrBelow(DatabaseType.GRAPH)) {
+            // Writing 100,000 entities is only practical for databases
+            // that are capable of batching writes. Other databases are
+            // permitted to ignore BatchSize.
+            return;
+        }
+
+        catalog.deleteByProductNumLike("TEST-BATCH-%");
+
+        int count = 100_000;
+        Product[] products = new Product[count];
+        for (int i = 0; i < count; i++) {
+            products[i] = Product.of("batched product " + i, 1.0 + i % 100, String.format("TEST-BATCH-%06d", i));
+        }
+
+        Product[] added = catalog.addBatched(products);
+
+        assertEquals(count, added.length);
+        for (int i = 0; i < count; i++) {
+            assertEquals(String.format("TEST-BATCH-%06d", i), added[i].getProductNum());
+            assertEquals("batched product " + i, added[i].getName());
+        }
+
+        // generated versions are returned for entities in any batch
+        for (int i : new int[] { 0, 499, 500, 54_321, count - 1 }) {
+            Product found = catalog.get(String.format("TEST-BATCH-%06d", i)).orElseThrow();
+            assertEquals(added[i].getVersionNum(), found.getVersionNum());
+            assertEquals(1.0 + i % 100, found.getPrice(), 0.001);
+        }
+
+        catalog.removeBatched(List.of(added).subList(0, count / 2));
+
+        assertEquals(false, catalog.get("TEST-BATCH-000000").isPresent());
+        assertEquals(true, catalog.get("TEST-BATCH-050000").isPresent());
+        assertEquals(count / 2L, catalog.deleteByProductNumLike("TEST-BATCH-%"));
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method with the Null keyword.")
     public void testNull() {
         catalog.deleteByProductNumLike("TEST-PROD-%");